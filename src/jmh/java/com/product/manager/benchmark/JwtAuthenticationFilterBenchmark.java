@@ -0,0 +1,72 @@
+package com.product.manager.benchmark;
+
+import com.product.manager.cache.UserDetailsCache;
+import com.product.manager.config.JwtAuthenticationFilter;
+import com.product.manager.service.TokenRevocationService;
+import com.product.manager.util.JwtUtil;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full filter pass for an authenticated request, with an in-memory stub in place of the user table.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"false", "true"})
+    private boolean stateless;
+
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+    private final FilterChain filterChain = (request, response) -> {
+    };
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(JwtUtilBenchmark.SECRET_KEY, 10_000);
+        UserDetailsService userDetailsService = username -> User.withUsername(username)
+                .password("n/a")
+                .roles("USER")
+                .build();
+        UserDetailsCache userDetailsCache = new UserDetailsCache(10_000, Duration.ofSeconds(30));
+
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, userDetailsCache,
+                new TokenRevocationService(userDetailsCache), stateless);
+        authorizationHeader = "Bearer " + jwtUtil.generateToken(userDetailsService.loadUserByUsername("user"));
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/product/1001");
+        request.addHeader("Authorization", authorizationHeader);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
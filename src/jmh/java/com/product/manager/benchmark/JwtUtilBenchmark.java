@@ -0,0 +1,67 @@
+package com.product.manager.benchmark;
+
+import com.product.manager.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtUtilBenchmark {
+
+    static final String SECRET_KEY = "Qw8z!pLk@7vB2#xYt9R4$eGh6Jm1^sZc";
+    private static final int TOKEN_POOL_SIZE = 1024;
+
+    private JwtUtil jwtUtil;
+    // A one-entry token cache rotated over many tokens: every parse pays for full verification.
+    private JwtUtil uncachedJwtUtil;
+    private UserDetails userDetails;
+    private String token;
+    private String[] tokenPool;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET_KEY, 10_000);
+        uncachedJwtUtil = new JwtUtil(SECRET_KEY, 1);
+        userDetails = User.withUsername("user").password("n/a").roles("USER").build();
+        token = jwtUtil.generateToken(userDetails);
+
+        tokenPool = new String[TOKEN_POOL_SIZE];
+        for (int i = 0; i < TOKEN_POOL_SIZE; i++) {
+            tokenPool[i] = jwtUtil.generateToken(User.withUsername("user-" + i).password("n/a").roles("USER").build());
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public Claims parseTokenCached() {
+        return jwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public Claims parseTokenUncached() {
+        next = (next + 1) & (TOKEN_POOL_SIZE - 1);
+        return uncachedJwtUtil.parseToken(tokenPool[next]);
+    }
+}
@@ -0,0 +1,110 @@
+package com.product.manager.benchmark;
+
+import com.product.manager.cache.ProductCache;
+import com.product.manager.exceptions.ProductValidationException;
+import com.product.manager.mapper.ProductMapperImpl;
+import com.product.manager.repository.ProductRepository;
+import com.product.manager.service.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the not-found path: the whole {@code ProductService.getProductByCode} miss against a repository stub,
+ * and the throw alone with and without stack trace capture (the latter being the previous behaviour).
+ * {@code stackDepth} adds frames below the call to mimic the Tomcat/Spring/Security stack of a real request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NotFoundPathBenchmark {
+
+    @Param({"10", "150"})
+    private int stackDepth;
+
+    private Long missingCode = 404L;
+    private ProductService productService;
+
+    @Setup
+    public void setUp() {
+        ProductRepository productRepository = (ProductRepository) Proxy.newProxyInstance(
+                ProductRepository.class.getClassLoader(),
+                new Class<?>[]{ProductRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByCode")) {
+                        return Optional.empty();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        productService = new ProductService(productRepository, new ProductMapperImpl(),
+                new ProductCache(100, Duration.ofMinutes(1)), event -> { });
+    }
+
+    @Benchmark
+    public Object notFound() {
+        return atDepth(stackDepth, () -> productService.getProductByCode(missingCode));
+    }
+
+    @Benchmark
+    public Object throwWithoutStackTrace() {
+        return atDepth(stackDepth, () -> {
+            throw new ProductValidationException("Product with code " + missingCode + " not found.", HttpStatus.NOT_FOUND);
+        });
+    }
+
+    @Benchmark
+    public Object throwWithStackTrace() {
+        return atDepth(stackDepth, () -> {
+            throw new StackTraceProductException("Product with code " + missingCode + " not found.", HttpStatus.NOT_FOUND);
+        });
+    }
+
+    private static Object atDepth(int depth, Runnable call) {
+        if (depth > 0) {
+            return atDepth(depth - 1, call);
+        }
+        // Read the status like GlobalExceptionHandler does, so both exception types are fully used.
+        try {
+            call.run();
+            return null;
+        } catch (ProductValidationException e) {
+            return e.getStatus();
+        } catch (StackTraceProductException e) {
+            return e.getStatus();
+        }
+    }
+
+    /**
+     * {@link ProductValidationException} as it was before stack trace capture was disabled.
+     */
+    private static final class StackTraceProductException extends RuntimeException {
+
+        private final HttpStatus status;
+
+        StackTraceProductException(String message, HttpStatus status) {
+            super(message);
+            this.status = status;
+        }
+
+        HttpStatus getStatus() {
+            return status;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.product.manager.benchmark;
+
+import com.product.manager.dto.ProductDto;
+import com.product.manager.exceptions.ProductValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ProductDtoBenchmark {
+
+    // Non-final so the JIT cannot constant-fold the constructor arguments.
+    private String productName = "SSD 1TB";
+    private String blankName = " ";
+    private Double price = 129.99;
+    private Long quantity = 10L;
+    private String description = "Fast storage";
+    private Long code = 1001L;
+
+    @Benchmark
+    public ProductDto constructValid() {
+        return new ProductDto(productName, price, quantity, description, code);
+    }
+
+    @Benchmark
+    public Object constructInvalid() {
+        try {
+            return new ProductDto(blankName, price, quantity, description, code);
+        } catch (ProductValidationException e) {
+            return e;
+        }
+    }
+}
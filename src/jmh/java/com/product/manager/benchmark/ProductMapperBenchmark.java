@@ -0,0 +1,48 @@
+package com.product.manager.benchmark;
+
+import com.product.manager.dto.ProductDto;
+import com.product.manager.entity.Product;
+import com.product.manager.mapper.ProductMapper;
+import com.product.manager.mapper.ProductMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ProductMapperBenchmark {
+
+    private final ProductMapper productMapper = new ProductMapperImpl();
+
+    private Product product;
+    private ProductDto productDto;
+
+    @Setup
+    public void setUp() {
+        product = new Product(1L, "SSD 1TB", 129.99, 10L, "Fast storage", 1001L, 0L);
+        productDto = new ProductDto("SSD 1TB", 129.99, 10L, "Fast storage", 1001L);
+    }
+
+    @Benchmark
+    public ProductDto toDto() {
+        return productMapper.toDto(product);
+    }
+
+    @Benchmark
+    public Product toEntity() {
+        return productMapper.toEntity(productDto);
+    }
+}
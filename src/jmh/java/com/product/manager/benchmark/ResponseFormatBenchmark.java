@@ -0,0 +1,71 @@
+package com.product.manager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.product.manager.dto.GenericResponse;
+import com.product.manager.dto.ProductDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON vs CBOR encoding of the {@code /list} catalog response, both SNAKE_CASE as configured in application.yml.
+ * Serialization cost is measured per benchmark; payload sizes for each format are printed once per fork at setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ResponseFormatBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private ObjectWriter jsonWriter;
+    private ObjectWriter cborWriter;
+    private GenericResponse<List<ProductDto>> response;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonWriter = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .writer();
+        cborWriter = new ObjectMapper(new CBORFactory())
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .writer();
+        response = new GenericResponse<>(200, true, "Products retrieved successfully",
+                ResponseSerializationBenchmark.products(size));
+
+        int jsonBytes = jsonWriter.writeValueAsBytes(response).length;
+        int cborBytes = cborWriter.writeValueAsBytes(response).length;
+        System.out.printf("%n%d products: json=%d bytes, cbor=%d bytes (%.1f%% of json)%n",
+                size, jsonBytes, cborBytes, 100.0 * cborBytes / jsonBytes);
+    }
+
+    @Benchmark
+    public void serializeJson() throws IOException {
+        jsonWriter.writeValue(OutputStream.nullOutputStream(), response);
+    }
+
+    @Benchmark
+    public void serializeCbor() throws IOException {
+        cborWriter.writeValue(OutputStream.nullOutputStream(), response);
+    }
+}
@@ -0,0 +1,251 @@
+package com.product.manager.analytics;
+
+import com.product.manager.event.ProductChangedEvent;
+import com.product.manager.repository.ProductRepository;
+import com.product.manager.repository.ProductStockRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Column-oriented, in-memory copy of product {@code code}/{@code price}/{@code quantity} used for catalog
+ * aggregates.
+ * <p>
+ * The snapshot is loaded once at startup. After that, {@link ProductChangedEvent}s mark codes dirty, and a
+ * scheduled refresh re-reads only those rows and publishes a new immutable {@link Columns} instance. Readers
+ * never lock: each aggregate scans one consistent set of primitive arrays in parallel.
+ */
+@Component
+@Slf4j
+public class ProductColumnarSnapshot {
+
+    static final int REFRESH_CHUNK_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Set<Long> dirtyCodes = ConcurrentHashMap.newKeySet();
+
+    private volatile Columns columns;
+
+    public ProductColumnarSnapshot(ProductRepository productRepository, PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Columns loaded = readOnlyTransaction.execute(status -> {
+            try (Stream<ProductStockRow> rows = productRepository.streamStockRows()) {
+                ColumnsBuilder builder = new ColumnsBuilder(1024);
+                rows.forEach(builder::add);
+                return builder.build();
+            }
+        });
+        columns = loaded;
+        log.info("Loaded analytics snapshot with {} products", loaded.size);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        dirtyCodes.add(event.code());
+    }
+
+    @Scheduled(fixedDelayString = "${product.analytics.refresh-interval-ms:1000}")
+    public void refresh() {
+        Columns current = columns;
+        if (current == null || dirtyCodes.isEmpty()) {
+            return;
+        }
+
+        // Remove before reading: a write that commits after this point marks its code dirty again.
+        long[] dirty = dirtyCodes.stream().mapToLong(Long::longValue).sorted().toArray();
+        for (long code : dirty) {
+            dirtyCodes.remove(code);
+        }
+
+        Map<Long, ProductStockRow> fresh = new HashMap<>();
+        try {
+            // Chunked so a large burst of changes stays well below the driver's bind-parameter limit.
+            for (int from = 0; from < dirty.length; from += REFRESH_CHUNK_SIZE) {
+                List<Long> codes = Arrays.stream(dirty, from, Math.min(from + REFRESH_CHUNK_SIZE, dirty.length))
+                        .boxed()
+                        .toList();
+                productRepository.findStockRowsByCodeIn(codes)
+                        .forEach(row -> fresh.put(row.code(), row));
+            }
+        } catch (RuntimeException e) {
+            // Nothing was merged yet: put every code back so the next refresh retries it.
+            for (long code : dirty) {
+                dirtyCodes.add(code);
+            }
+            throw e;
+        }
+
+        columns = merge(current, dirty, fresh);
+    }
+
+    static Columns merge(Columns current, long[] dirty, Map<Long, ProductStockRow> fresh) {
+        ColumnsBuilder builder = new ColumnsBuilder(current.size + dirty.length);
+        int i = 0;
+        int j = 0;
+        while (i < current.size || j < dirty.length) {
+            if (j == dirty.length || (i < current.size && current.codes[i] < dirty[j])) {
+                builder.add(current.codes[i], current.prices[i], current.quantities[i]);
+                i++;
+            } else {
+                ProductStockRow row = fresh.get(dirty[j]);
+                if (row != null) {
+                    builder.add(row);
+                }
+                if (i < current.size && current.codes[i] == dirty[j]) {
+                    i++;
+                }
+                j++;
+            }
+        }
+        return builder.build();
+    }
+
+    public boolean isLoaded() {
+        return columns != null;
+    }
+
+    public int productCount() {
+        return snapshot().size;
+    }
+
+    public double totalStockValue() {
+        Columns snapshot = snapshot();
+        return IntStream.range(0, snapshot.size)
+                .parallel()
+                .mapToDouble(i -> snapshot.prices[i] * snapshot.quantities[i])
+                .sum();
+    }
+
+    public long lowStockCount(long threshold) {
+        Columns snapshot = snapshot();
+        return IntStream.range(0, snapshot.size)
+                .parallel()
+                .filter(i -> snapshot.quantities[i] <= threshold)
+                .count();
+    }
+
+    /**
+     * Counts prices into {@code buckets} equal-width buckets over {@code [min, max]}; prices outside the range are
+     * ignored. Each parallel chunk fills its own {@code long[]}, and the chunks are summed at the end.
+     */
+    public long[] priceHistogram(double min, double max, int buckets) {
+        Columns snapshot = snapshot();
+        double width = (max - min) / buckets;
+        int chunks = Math.max(1, ForkJoinPool.getCommonPoolParallelism() * 4);
+        int chunkSize = Math.max(1, (snapshot.size + chunks - 1) / chunks);
+
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> {
+                    long[] counts = new long[buckets];
+                    int end = Math.min(snapshot.size, (chunk + 1) * chunkSize);
+                    for (int i = chunk * chunkSize; i < end; i++) {
+                        double price = snapshot.prices[i];
+                        if (price >= min && price <= max) {
+                            counts[Math.min(buckets - 1, (int) ((price - min) / width))]++;
+                        }
+                    }
+                    return counts;
+                })
+                .reduce(new long[buckets], (left, right) -> {
+                    long[] sum = new long[buckets];
+                    for (int b = 0; b < buckets; b++) {
+                        sum[b] = left[b] + right[b];
+                    }
+                    return sum;
+                });
+    }
+
+    public double minPrice() {
+        Columns snapshot = snapshot();
+        return IntStream.range(0, snapshot.size).parallel().mapToDouble(i -> snapshot.prices[i]).min().orElse(0);
+    }
+
+    public double maxPrice() {
+        Columns snapshot = snapshot();
+        return IntStream.range(0, snapshot.size).parallel().mapToDouble(i -> snapshot.prices[i]).max().orElse(0);
+    }
+
+    private Columns snapshot() {
+        Columns snapshot = columns;
+        if (snapshot == null) {
+            throw new IllegalStateException("Analytics snapshot is not loaded yet");
+        }
+        return snapshot;
+    }
+
+    /**
+     * Immutable columns sorted by code; only the first {@code size} slots are used.
+     */
+    static final class Columns {
+        final long[] codes;
+        final double[] prices;
+        final long[] quantities;
+        final int size;
+
+        Columns(long[] codes, double[] prices, long[] quantities, int size) {
+            this.codes = codes;
+            this.prices = prices;
+            this.quantities = quantities;
+            this.size = size;
+        }
+    }
+
+    private static final class ColumnsBuilder {
+        private long[] codes;
+        private double[] prices;
+        private long[] quantities;
+        private int size;
+
+        ColumnsBuilder(int capacity) {
+            int initial = Math.max(16, capacity);
+            codes = new long[initial];
+            prices = new double[initial];
+            quantities = new long[initial];
+        }
+
+        void add(ProductStockRow row) {
+            add(row.code(), row.price(), row.quantity());
+        }
+
+        void add(long code, double price, long quantity) {
+            if (size == codes.length) {
+                int capacity = size * 2;
+                codes = Arrays.copyOf(codes, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+                quantities = Arrays.copyOf(quantities, capacity);
+            }
+            codes[size] = code;
+            prices[size] = price;
+            quantities[size] = quantity;
+            size++;
+        }
+
+        Columns build() {
+            return new Columns(codes, prices, quantities, size);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.product.manager.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.product.manager.dto.ProductDto;
+import com.product.manager.event.ProductChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size- and TTL-bounded cache of {@link ProductDto} keyed by product code.
+ * <p>
+ * Entries are dropped once a {@link ProductChangedEvent} is delivered after commit. Loaders take a
+ * {@link #stamp()} before reading the database and store through {@link #putIfUnchanged}, so a read
+ * that raced with a write never leaves a stale entry behind.
+ */
+@Component
+public class ProductCache implements MeterBinder {
+
+    private final Cache<Long, ProductDto> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ProductCache(@Value("${product.cache.max-size:10000}") long maxSize,
+                        @Value("${product.cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<ProductDto> get(Long code) {
+        return Optional.ofNullable(cache.getIfPresent(code));
+    }
+
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    public void putIfUnchanged(ProductDto productDto, long stamp) {
+        cache.put(productDto.code(), productDto);
+        if (invalidations.get() != stamp) {
+            cache.invalidate(productDto.code());
+        }
+    }
+
+    public void invalidate(Long code) {
+        invalidations.incrementAndGet();
+        cache.invalidate(code);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidate(event.code());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "products");
+    }
+}
@@ -0,0 +1,155 @@
+package com.product.manager.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.product.manager.event.ProductChangedEvent;
+import com.product.manager.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serialized bodies of {@code GET /product/{code}} (per code) and {@code GET /product/list} (whole catalog), kept
+ * separately for each {@link ResponseFormat} and stored with a strong ETag derived from the bytes, so JSON and CBOR
+ * representations never share a validator. A repeated read, or an {@code If-None-Match} revalidation, is answered
+ * from here without touching the database or Jackson.
+ * <p>
+ * Entries are invalidated by {@link ProductChangedEvent} after commit, with the same stamp check as
+ * {@link ProductCache}. Any product change drops the catalog bodies. Writes on other instances never reach this
+ * listener, so every entry also expires after {@code product.cache.ttl}, like {@link ProductCache}.
+ */
+@Component
+public class ProductResponseCache implements MeterBinder {
+
+    private final ProductService productService;
+    private final Map<ResponseFormat, ObjectMapper> mappers = new EnumMap<>(ResponseFormat.class);
+    private final long maxCatalogBytes;
+    private final long ttlNanos;
+
+    private final Map<ResponseFormat, Cache<Long, SerializedResponse>> products = new EnumMap<>(ResponseFormat.class);
+    private final AtomicLong invalidations = new AtomicLong();
+    private final ReentrantLock catalogLock = new ReentrantLock();
+    private final Map<ResponseFormat, CatalogEntry> catalogs = new ConcurrentHashMap<>();
+
+    public ProductResponseCache(ProductService productService,
+                                ObjectMapper objectMapper,
+                                MappingJackson2CborHttpMessageConverter cborConverter,
+                                @Value("${product.response-cache.max-size:10000}") long maxSize,
+                                @Value("${product.response-cache.catalog-max-size:64MB}") DataSize maxCatalogSize,
+                                @Value("${product.cache.ttl:5m}") Duration ttl) {
+        this.productService = productService;
+        this.mappers.put(ResponseFormat.JSON, objectMapper);
+        this.mappers.put(ResponseFormat.CBOR, cborConverter.getObjectMapper());
+        this.maxCatalogBytes = maxCatalogSize.toBytes();
+        this.ttlNanos = ttl.toNanos();
+        for (ResponseFormat format : ResponseFormat.values()) {
+            this.products.put(format, Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfterWrite(ttl)
+                    .recordStats()
+                    .build());
+        }
+    }
+
+    public SerializedResponse getProduct(Long code, ResponseFormat format) {
+        Cache<Long, SerializedResponse> cache = products.get(format);
+        SerializedResponse cached = cache.getIfPresent(code);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = invalidations.get();
+        SerializedResponse response = serialize(productService.getProductByCode(code), format);
+        cache.put(code, response);
+        if (invalidations.get() != stamp) {
+            cache.invalidate(code);
+        }
+        return response;
+    }
+
+    public SerializedResponse getCatalog(ResponseFormat format) {
+        CatalogEntry entry = freshCatalog(format);
+        if (entry == null) {
+            // One rebuild at a time: concurrent readers wait and reuse it instead of each serializing the catalog.
+            catalogLock.lock();
+            try {
+                entry = freshCatalog(format);
+                if (entry == null) {
+                    return buildCatalog(format);
+                }
+            } finally {
+                catalogLock.unlock();
+            }
+        }
+        if (entry.response() != null) {
+            return entry.response();
+        }
+        // The last build exceeded catalog-max-size and was not kept: serialize without the lock, so concurrent
+        // calls run in parallel until the next invalidation or expiry allows another attempt at caching it.
+        return serialize(productService.getAllProducts(), format);
+    }
+
+    private SerializedResponse buildCatalog(ResponseFormat format) {
+        long stamp = invalidations.get();
+        SerializedResponse response = serialize(productService.getAllProducts(), format);
+        CatalogEntry entry = new CatalogEntry(response.body().length <= maxCatalogBytes ? response : null, System.nanoTime());
+        catalogs.put(format, entry);
+        if (invalidations.get() != stamp) {
+            catalogs.remove(format, entry);
+        }
+        return response;
+    }
+
+    private CatalogEntry freshCatalog(ResponseFormat format) {
+        CatalogEntry entry = catalogs.get(format);
+        if (entry == null || System.nanoTime() - entry.builtAt() >= ttlNanos) {
+            return null;
+        }
+        return entry;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidations.incrementAndGet();
+        products.values().forEach(cache -> cache.invalidate(event.code()));
+        catalogs.clear();
+    }
+
+    private SerializedResponse serialize(Object body, ResponseFormat format) {
+        try {
+            byte[] bytes = mappers.get(format).writeValueAsBytes(body);
+            return new SerializedResponse(bytes, "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize product response", e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        products.forEach((format, cache) ->
+                CaffeineCacheMetrics.monitor(registry, cache, "product-responses", "format", format.name().toLowerCase()));
+    }
+
+    public record SerializedResponse(byte[] body, String etag) {
+    }
+
+    // A null response marks a catalog that was too large to keep.
+    private record CatalogEntry(SerializedResponse response, long builtAt) {
+    }
+}
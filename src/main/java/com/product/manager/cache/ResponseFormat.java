@@ -0,0 +1,22 @@
+package com.product.manager.cache;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Encodings the product read endpoints can answer in, chosen by the client's {@code Accept} header.
+ */
+public enum ResponseFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR);
+
+    private final MediaType mediaType;
+
+    ResponseFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+}
@@ -0,0 +1,49 @@
+package com.product.manager.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Short-lived cache of {@link UserDetails} used by the JWT filter, so authenticated requests do not hit
+ * the user and role tables on every call. The TTL bounds how long a role change takes to apply.
+ */
+@Component
+public class UserDetailsCache implements MeterBinder {
+
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(@Value("${security.user-cache.max-size:10000}") long maxSize,
+                            @Value("${security.user-cache.ttl:30s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<UserDetails> get(String username) {
+        return Optional.ofNullable(cache.getIfPresent(username));
+    }
+
+    public void put(UserDetails userDetails) {
+        cache.put(userDetails.getUsername(), userDetails);
+    }
+
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "user-details");
+    }
+}
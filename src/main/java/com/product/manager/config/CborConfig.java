@@ -0,0 +1,23 @@
+package com.product.manager.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * CBOR ({@code application/cbor}) as a binary alternative to JSON, selected with {@code Accept}.
+ * <p>
+ * Spring MVC registers a CBOR converter on its own once jackson-dataformat-cbor is present, but with a bare mapper.
+ * This bean replaces it in place, after the JSON converter so a wildcard or missing {@code Accept} still gets JSON, and is
+ * built from Boot's builder so {@code spring.jackson} settings (SNAKE_CASE) apply to both encodings.
+ */
+@Configuration
+public class CborConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
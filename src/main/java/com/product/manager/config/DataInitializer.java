@@ -1,32 +1,48 @@
 package com.product.manager.config;
 
+import com.product.manager.entity.DataSeed;
 import com.product.manager.entity.Role;
 import com.product.manager.entity.User;
+import com.product.manager.repository.DataSeedRepository;
 import com.product.manager.repository.RoleRepository;
 import com.product.manager.repository.UserRepository;
+import com.product.manager.service.RoleRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
 
+    static final String DEFAULT_USERS_SEED = "default-roles-and-users";
+
+    private final DataSeedRepository dataSeedRepository;
     private final RoleRepository roleRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RoleRegistry roleRegistry;
 
     @Override
     public void run(String... args) throws Exception {
+        // Once seeded, a single primary-key lookup replaces the role and user checks; RoleRegistry loads roles on first use.
+        if (dataSeedRepository.existsById(DEFAULT_USERS_SEED)) {
+            return;
+        }
+
         Role userRole = roleRepository.findByRoleName("USER")
                 .orElseGet(() -> roleRepository.save(new Role(null, "USER")));
 
         Role adminRole = roleRepository.findByRoleName("ADMIN")
                 .orElseGet(() -> roleRepository.save(new Role(null, "ADMIN")));
 
+        roleRegistry.register(userRole);
+        roleRegistry.register(adminRole);
+
         if (!userRepository.existsByUsername("admin")) {
             User admin = new User();
             admin.setUsername("admin");
@@ -42,5 +58,7 @@ public class DataInitializer implements CommandLineRunner {
             user.setRoles(Set.of(userRole));
             userRepository.save(user);
         }
+
+        dataSeedRepository.save(new DataSeed(DEFAULT_USERS_SEED, Instant.now()));
     }
 }
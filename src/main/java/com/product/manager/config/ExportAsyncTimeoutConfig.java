@@ -0,0 +1,44 @@
+package com.product.manager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Gives the NDJSON export stream its own async timeout ({@code product.export.timeout}), since a large catalog can
+ * take far longer than the default. Every other async endpoint keeps the default timeout.
+ */
+@Configuration
+public class ExportAsyncTimeoutConfig implements WebMvcConfigurer {
+
+    static final String EXPORT_PATTERN = "/api/v1/product/export";
+
+    private final Duration exportTimeout;
+
+    public ExportAsyncTimeoutConfig(@Value("${product.export.timeout:1h}") Duration exportTimeout) {
+        this.exportTimeout = exportTimeout;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            // Runs after the default timeout is applied and before async processing starts, so this one wins.
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                if (request instanceof AsyncWebRequest asyncRequest && EXPORT_PATTERN.equals(pattern)) {
+                    asyncRequest.setTimeout(exportTimeout.toMillis());
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package com.product.manager.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers for hot-path beans that have no built-in instrumentation: the product mapper ({@code product.mapper})
+ * and JWT verification ({@code jwt.verification}). Repository calls are already timed by Spring Data as
+ * {@code spring.data.repository.invocations}, and requests as {@code http.server.requests}.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class HotPathMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(* com.product.manager.mapper.ProductMapper.*(..))")
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("product.mapper", joinPoint);
+    }
+
+    @Around("execution(* com.product.manager.util.JwtUtil.parseToken(..))")
+    public Object timeJwtVerification(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("jwt.verification", joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodTimers methodTimers = timers.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                method -> new MethodTimers(timer(name, method, "success"), timer(name, method, "error")));
+
+        long start = System.nanoTime();
+        Timer outcome = methodTimers.error();
+        try {
+            Object result = joinPoint.proceed();
+            outcome = methodTimers.success();
+            return result;
+        } finally {
+            outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String name, Method method, String outcome) {
+        return Timer.builder(name)
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record MethodTimers(Timer success, Timer error) {
+    }
+}
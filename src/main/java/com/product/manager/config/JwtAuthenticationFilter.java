@@ -1,10 +1,14 @@
 package com.product.manager.config;
 
+import com.product.manager.cache.UserDetailsCache;
+import com.product.manager.service.TokenRevocationService;
 import com.product.manager.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,9 +26,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final UserDetailsService userDetailsService;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    private final UserDetailsCache userDetailsCache;
+
+    private final TokenRevocationService tokenRevocationService;
+
+    // When enabled, authorities come from the token's role claims and no user lookup is made.
+    private final boolean stateless;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil,
+                                   UserDetailsService userDetailsService,
+                                   UserDetailsCache userDetailsCache,
+                                   TokenRevocationService tokenRevocationService,
+                                   @Value("${security.jwt.stateless:false}") boolean stateless) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.userDetailsCache = userDetailsCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.stateless = stateless;
     }
 
     @Override
@@ -40,12 +58,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String jwt = authHeader.substring(7);
-        String username = jwtUtil.extractUsername(jwt);
+        Claims claims = jwtUtil.parseToken(jwt);
+        String username = claims.getSubject();
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (username != null
+                && SecurityContextHolder.getContext().getAuthentication() == null
+                && !tokenRevocationService.isRevoked(claims)) {
+            UserDetails userDetails = stateless ? jwtUtil.toUserDetails(claims) : loadUser(username);
 
-            if (jwtUtil.isTokenValid(jwt, userDetails)) {
+            if (jwtUtil.isTokenValid(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails, null, userDetails.getAuthorities());
@@ -57,4 +78,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    // Async results (price write-behind, the export stream) finish in a second dispatch with a fresh security
+    // context, so the token has to be re-applied there or authorization rejects it with 403.
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+        private UserDetails loadUser(String username) {
+        return userDetailsCache.get(username).orElseGet(() -> {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            userDetailsCache.put(userDetails);
+            return userDetails;
+        });
+    }
 }
@@ -0,0 +1,39 @@
+package com.product.manager.config;
+
+import com.product.manager.analytics.ProductColumnarSnapshot;
+import com.product.manager.cache.ProductCache;
+import com.product.manager.cache.ProductResponseCache;
+import com.product.manager.cache.UserDetailsCache;
+import com.product.manager.controller.ProductController;
+import com.product.manager.service.PriceWriteBehindBuffer;
+import com.product.manager.service.ProductService;
+import com.product.manager.util.JwtUtil;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.web.SecurityFilterChain;
+
+@Configuration
+public class LazyInitializationConfig {
+
+    /**
+     * Beans kept eager when {@code spring.main.lazy-initialization} is on (the {@code faststart} profile): the
+     * authenticated product read path, so the first request does not pay for their creation, and beans with
+     * {@code @Scheduled} methods, which are only registered once the bean exists. Everything else, such as
+     * springdoc, auth registration and bulk/export services, is created on first use.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter hotPathBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                SecurityFilterChain.class,
+                JwtAuthenticationFilter.class,
+                JwtUtil.class,
+                UserDetailsCache.class,
+                ProductController.class,
+                ProductService.class,
+                ProductCache.class,
+                ProductResponseCache.class,
+                ProductColumnarSnapshot.class,
+                PriceWriteBehindBuffer.class);
+    }
+}
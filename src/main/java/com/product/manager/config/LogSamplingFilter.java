@@ -0,0 +1,52 @@
+package com.product.manager.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logback turbo filter that keeps one in {@code sampleRate} INFO/DEBUG events from loggers starting with one of
+ * {@code loggerPrefixes} (comma separated). WARN and ERROR always pass. It runs before the event is created,
+ * so dropped calls allocate nothing. Configured in {@code logback-spring.xml}.
+ */
+public class LogSamplingFilter extends TurboFilter {
+
+    private String[] loggerPrefixes = new String[0];
+    private int sampleRate = 1;
+    private final AtomicLong counter = new AtomicLong();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format is null for isXxxEnabled() checks, which must keep reporting the configured level.
+        if (sampleRate <= 1 || format == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.getAndIncrement() % sampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean matches(String loggerName) {
+        for (String prefix : loggerPrefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void setLoggerPrefixes(String loggerPrefixes) {
+        this.loggerPrefixes = Arrays.stream(loggerPrefixes.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
@@ -0,0 +1,98 @@
+package com.product.manager.config;
+
+import com.product.manager.dto.BulkItemResultDto;
+import com.product.manager.dto.GenericResponse;
+import com.product.manager.dto.LowStockDto;
+import com.product.manager.dto.PriceHistogramDto;
+import com.product.manager.dto.ProductDto;
+import com.product.manager.dto.ProductPageDto;
+import com.product.manager.dto.ProductSearchResultDto;
+import com.product.manager.dto.StockValueDto;
+import com.product.manager.entity.DataSeed;
+import com.product.manager.entity.Product;
+import com.product.manager.entity.Role;
+import com.product.manager.entity.User;
+import com.product.manager.mapper.ProductMapperImpl;
+import com.product.manager.repository.ProductStockRow;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Reflection, proxy and resource hints for the native image ({@code ./mvnw -Pnative native:compile}) that Spring
+ * AOT cannot infer on its own.
+ * <p>
+ * Response DTOs are registered for Jackson binding because the cached {@code byte[]} endpoints and
+ * {@code ResponseEntity<?>} hide them from AOT's controller signature scan.
+ */
+@Configuration
+@ImportRuntimeHints(NativeRuntimeHints.Registrar.class)
+@RegisterReflectionForBinding({
+        GenericResponse.class,
+        ProductDto.class,
+        ProductPageDto.class,
+        ProductSearchResultDto.class,
+        BulkItemResultDto.class,
+        StockValueDto.class,
+        LowStockDto.class,
+        PriceHistogramDto.class
+})
+public class NativeRuntimeHints {
+
+    // JJWT resolves its implementation and Jackson (de)serializers by class name and ServiceLoader at runtime.
+    private static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    static class Registrar implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            JJWT_TYPES.forEach(type -> hints.reflection().registerTypeIfPresent(classLoader, type,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+            // Lombok-generated accessors and no-arg constructors used by Hibernate; the projection is built by a
+            // JPQL constructor expression.
+            for (Class<?> entity : List.of(Product.class, User.class, Role.class, DataSeed.class)) {
+                hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+            hints.reflection().registerType(ProductStockRow.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            hints.reflection().registerType(ProductMapperImpl.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+            // Instantiated and configured by logback-spring.xml.
+            hints.reflection().registerType(LogSamplingFilter.class,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.reflection().registerTypeIfPresent(classLoader, "ch.qos.logback.classic.AsyncAppender",
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+            // JDK proxies created by datasource-proxy for the slow-query log.
+            hints.proxies().registerJdkProxy(ProxyJdbcObject.class, Connection.class);
+            hints.proxies().registerJdkProxy(ProxyJdbcObject.class, Statement.class);
+            hints.proxies().registerJdkProxy(ProxyJdbcObject.class, PreparedStatement.class);
+            hints.proxies().registerJdkProxy(ProxyJdbcObject.class, CallableStatement.class);
+        }
+    }
+}
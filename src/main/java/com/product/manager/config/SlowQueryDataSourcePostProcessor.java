@@ -0,0 +1,76 @@
+package com.product.manager.config;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Wraps the {@link DataSource} so that statements slower than {@code product.slow-query.threshold-ms} are
+ * logged with their elapsed time and bind parameters. Fast statements cost one comparison and are never
+ * formatted. This replaces {@code spring.jpa.show-sql}, which printed every statement.
+ */
+@Component
+@Slf4j
+public class SlowQueryDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final long thresholdMs;
+
+    public SlowQueryDataSourcePostProcessor(@Value("${product.slow-query.threshold-ms:200}") long thresholdMs) {
+        this.thresholdMs = thresholdMs;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (thresholdMs <= 0 || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(new SlowQueryListener(thresholdMs))
+                .build();
+    }
+
+    static final class SlowQueryListener implements QueryExecutionListener {
+
+        private final long thresholdMs;
+
+        SlowQueryListener(long thresholdMs) {
+            this.thresholdMs = thresholdMs;
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (execInfo.getElapsedTime() < thresholdMs || !log.isWarnEnabled()) {
+                return;
+            }
+            log.warn("Slow query took {} ms (success: {}, batch size: {}): {} params {}",
+                    execInfo.getElapsedTime(), execInfo.isSuccess(), execInfo.getBatchSize(),
+                    queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")),
+                    queryInfoList.stream().map(SlowQueryListener::parameters).collect(Collectors.joining("; ")));
+        }
+
+        private static String parameters(QueryInfo queryInfo) {
+            return queryInfo.getParametersList().stream()
+                    .map(parameters -> parameters.stream()
+                            .map(ParameterSetOperation::getArgs)
+                            .map(args -> args.length > 1 ? String.valueOf(args[1]) : "")
+                            .collect(Collectors.joining(", ", "(", ")")))
+                    .collect(Collectors.joining(","));
+        }
+    }
+}
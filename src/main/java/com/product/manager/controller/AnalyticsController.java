@@ -0,0 +1,48 @@
+package com.product.manager.controller;
+
+import com.product.manager.dto.GenericResponse;
+import com.product.manager.dto.LowStockDto;
+import com.product.manager.dto.PriceHistogramDto;
+import com.product.manager.dto.StockValueDto;
+import com.product.manager.service.ProductAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/analytics")
+@Tag(name = "Analytics Controller", description = "API for catalog-wide aggregates")
+public class AnalyticsController {
+
+    private final ProductAnalyticsService productAnalyticsService;
+
+    @GetMapping("/stock-value")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Total stock value", description = "Sums price * quantity over the whole catalog")
+    public ResponseEntity<GenericResponse<StockValueDto>> getStockValue() {
+        return ResponseEntity.ok(productAnalyticsService.getStockValue());
+    }
+
+    @GetMapping("/low-stock")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Low stock count", description = "Counts products whose quantity is at or below the threshold")
+    public ResponseEntity<GenericResponse<LowStockDto>> getLowStock(@RequestParam(defaultValue = "10") long threshold) {
+        return ResponseEntity.ok(productAnalyticsService.getLowStock(threshold));
+    }
+
+    @GetMapping("/price-histogram")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Price histogram", description = "Counts products into equal-width price buckets")
+    public ResponseEntity<GenericResponse<PriceHistogramDto>> getPriceHistogram(@RequestParam(defaultValue = "10") int buckets,
+                                                                                @RequestParam(required = false) Double min,
+                                                                                @RequestParam(required = false) Double max) {
+        return ResponseEntity.ok(productAnalyticsService.getPriceHistogram(buckets, min, max));
+    }
+}
@@ -9,6 +9,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -34,5 +36,11 @@ public class AuthController {
         return ResponseEntity.ok(authService.login(loginRequest));
     }
 
+    @PostMapping("/revoke/{username}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Revoke user tokens", description = "Invalidates every token issued to the user so far")
+    public ResponseEntity<GenericResponse<Void>> revokeTokens(@PathVariable String username) {
+        return ResponseEntity.ok(authService.revokeTokens(username));
+    }
 
 }
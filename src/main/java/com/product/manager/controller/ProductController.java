@@ -1,12 +1,24 @@
 package com.product.manager.controller;
 
+import com.product.manager.cache.ProductResponseCache;
+import com.product.manager.cache.ProductResponseCache.SerializedResponse;
+import com.product.manager.cache.ResponseFormat;
+import com.product.manager.dto.BulkItemResultDto;
 import com.product.manager.dto.GenericResponse;
 import com.product.manager.dto.ProductDto;
+import com.product.manager.dto.ProductSearchRequest;
+import com.product.manager.dto.ProductSearchResultDto;
 import com.product.manager.dto.UpdateProductDto;
+import com.product.manager.service.PriceWriteBehindBuffer;
+import com.product.manager.service.ProductBulkService;
+import com.product.manager.service.ProductExportService;
 import com.product.manager.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,9 +29,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -28,6 +45,10 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductExportService productExportService;
+    private final ProductBulkService productBulkService;
+    private final ProductResponseCache productResponseCache;
+    private final ObjectProvider<PriceWriteBehindBuffer> priceWriteBehindBuffer;
 
     @PostMapping("/add")
     @PreAuthorize("hasRole('ADMIN')")
@@ -36,11 +57,34 @@ public class ProductController {
         return ResponseEntity.ok(productService.addProduct(request));
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Add products in bulk", description = "Adds (or upserts with upsert=true) a JSON array of products and reports the outcome per item")
+    public ResponseEntity<GenericResponse<List<BulkItemResultDto>>> addProducts(InputStream request,
+                                                                                @RequestParam(defaultValue = "false") boolean upsert) throws IOException {
+        return ResponseEntity.ok(productBulkService.addProductsJsonArray(request, upsert));
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Add products in bulk from NDJSON", description = "Adds (or upserts with upsert=true) one product per line and reports the outcome per line")
+    public ResponseEntity<GenericResponse<List<BulkItemResultDto>>> addProductsNdjson(InputStream request,
+                                                                                      @RequestParam(defaultValue = "false") boolean upsert) throws IOException {
+        return ResponseEntity.ok(productBulkService.addProductsNdjson(request, upsert));
+    }
+
     @GetMapping("/{code}")
     @PreAuthorize("hasRole('USER')")
-    @Operation(summary = "Get product by code", description = "Retrieves a product by its unique code")
-    public ResponseEntity<GenericResponse<ProductDto>> getProductByCode(@PathVariable Long code) {
-        return ResponseEntity.ok(productService.getProductByCode(code));
+    @Operation(summary = "Get product by code", description = "Retrieves a product by its unique code; supports ETag / If-None-Match")
+    public ResponseEntity<byte[]> getProductByCode(@PathVariable Long code) {
+        return cached(productResponseCache.getProduct(code, ResponseFormat.JSON), ResponseFormat.JSON);
+    }
+
+    @GetMapping(value = "/{code}", produces = MediaType.APPLICATION_CBOR_VALUE)
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "Get product by code as CBOR", description = "Same as the JSON variant, encoded as CBOR when Accept asks for application/cbor")
+    public ResponseEntity<byte[]> getProductByCodeCbor(@PathVariable Long code) {
+        return cached(productResponseCache.getProduct(code, ResponseFormat.CBOR), ResponseFormat.CBOR);
     }
 
     @PutMapping("/change")
@@ -64,17 +108,81 @@ public class ProductController {
         return ResponseEntity.ok(productService.removeProduct(code));
     }
 
+    @PatchMapping("/{code}/stock")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Adjust product stock", description = "Atomically adds delta (negative to remove) to the quantity; fails with 409 if stock would go below zero")
+    public ResponseEntity<GenericResponse<Void>> adjustStock(@PathVariable Long code, @RequestParam Long delta) {
+        return ResponseEntity.ok(productService.adjustStock(code, delta));
+    }
+
     @GetMapping("/list")
     @PreAuthorize("hasRole('USER')")
-    @Operation(summary = "Get all products", description = "Retrieves a list of all products")
-    public ResponseEntity<GenericResponse<List<ProductDto>>> getAllProducts() {
-        return ResponseEntity.ok(productService.getAllProducts());
+    @Operation(summary = "Get all products", description = "Retrieves a list of all products, or a keyset page ordered by code when 'after' or 'limit' is given")
+    public ResponseEntity<?> getAllProducts(@RequestParam(required = false) Long after,
+                                            @RequestParam(required = false) Integer limit) {
+        if (after == null && limit == null) {
+            return cached(productResponseCache.getCatalog(ResponseFormat.JSON), ResponseFormat.JSON);
+        }
+        return ResponseEntity.ok(productService.getProductPage(after, limit));
+    }
+
+    @GetMapping(value = "/list", produces = MediaType.APPLICATION_CBOR_VALUE)
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "Get all products as CBOR", description = "Same as the JSON variant, encoded as CBOR when Accept asks for application/cbor")
+    public ResponseEntity<?> getAllProductsCbor(@RequestParam(required = false) Long after,
+                                                @RequestParam(required = false) Integer limit) {
+        if (after == null && limit == null) {
+            return cached(productResponseCache.getCatalog(ResponseFormat.CBOR), ResponseFormat.CBOR);
+        }
+        return ResponseEntity.ok(productService.getProductPage(after, limit));
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "Search products", description = "Full-text search on name and description with price/quantity ranges, sorting and keyset pagination")
+    public ResponseEntity<GenericResponse<ProductSearchResultDto>> searchProducts(@RequestParam(name = "q", required = false) String query,
+                                                                                @RequestParam(name = "min_price", required = false) Double minPrice,
+                                                                                @RequestParam(name = "max_price", required = false) Double maxPrice,
+                                                                                @RequestParam(name = "min_quantity", required = false) Long minQuantity,
+                                                                                @RequestParam(name = "max_quantity", required = false) Long maxQuantity,
+                                                                                @RequestParam(required = false) String sort,
+                                                                                @RequestParam(required = false) String direction,
+                                                                                @RequestParam(required = false) String after,
+                                                                                @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(productService.searchProducts(new ProductSearchRequest(
+                query, minPrice, maxPrice, minQuantity, maxQuantity, sort, direction, after, limit)));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('USER')")
+    @Operation(summary = "Export all products", description = "Streams the whole catalog as NDJSON, one product per line, ordered by code")
+    public ResponseEntity<StreamingResponseBody> exportProducts() {
+        StreamingResponseBody body = productExportService::exportProducts;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @PutMapping("/{code}/change/{price}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Change product price", description = "Updates the price of a product by its unique code")
-    public ResponseEntity<GenericResponse<Void>> changeProductPrice(@PathVariable Long code, @PathVariable Double price) {
-        return ResponseEntity.ok(productService.changeProductPrice(code, price));
+    public Object changeProductPrice(@PathVariable Long code, @PathVariable Double price) {
+        // Only the write-behind path goes async; the default path answers in the same dispatch, as before.
+        PriceWriteBehindBuffer buffer = priceWriteBehindBuffer.getIfAvailable();
+        if (buffer == null) {
+            return ResponseEntity.ok(productService.changeProductPrice(code, price));
+        }
+        CompletableFuture<ResponseEntity<GenericResponse<Void>>> response = buffer.submit(code, price).thenApply(ResponseEntity::ok);
+        return response;
+    }
+
+    // Spring answers a matching If-None-Match with 304 and no body once the ETag is set on the entity.
+    // Vary tells shared caches that JSON and CBOR are different representations of the same URL.
+    private ResponseEntity<byte[]> cached(SerializedResponse response, ResponseFormat format) {
+        return ResponseEntity.ok()
+                .eTag(response.etag())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format.mediaType())
+                .body(response.body());
     }
-}
\ No newline at end of file
+}
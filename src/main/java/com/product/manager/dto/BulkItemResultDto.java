@@ -0,0 +1,4 @@
+package com.product.manager.dto;
+
+public record BulkItemResultDto(Long code, int status, String message) {
+}
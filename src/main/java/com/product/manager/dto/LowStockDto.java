@@ -0,0 +1,4 @@
+package com.product.manager.dto;
+
+public record LowStockDto(long threshold, long count) {
+}
@@ -0,0 +1,4 @@
+package com.product.manager.dto;
+
+public record PriceHistogramDto(double min, double max, double bucketWidth, long[] counts) {
+}
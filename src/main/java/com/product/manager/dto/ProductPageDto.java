@@ -0,0 +1,6 @@
+package com.product.manager.dto;
+
+import java.util.List;
+
+public record ProductPageDto(List<ProductDto> products, Long nextCursor) {
+}
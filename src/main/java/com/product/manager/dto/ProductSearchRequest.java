@@ -0,0 +1,12 @@
+package com.product.manager.dto;
+
+public record ProductSearchRequest(String query,
+                                   Double minPrice,
+                                   Double maxPrice,
+                                   Long minQuantity,
+                                   Long maxQuantity,
+                                   String sort,
+                                   String direction,
+                                   String after,
+                                   Integer limit) {
+}
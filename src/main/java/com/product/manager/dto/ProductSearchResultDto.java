@@ -0,0 +1,6 @@
+package com.product.manager.dto;
+
+import java.util.List;
+
+public record ProductSearchResultDto(List<ProductDto> products, String nextCursor) {
+}
@@ -0,0 +1,4 @@
+package com.product.manager.dto;
+
+public record StockValueDto(int productCount, double totalStockValue) {
+}
@@ -0,0 +1,7 @@
+package com.product.manager.event;
+
+/**
+ * Published by {@code ProductService} whenever the product with the given code is created, changed or removed.
+ */
+public record ProductChangedEvent(Long code) {
+}
@@ -34,7 +34,12 @@ public class GlobalExceptionHandler {
                 null
         );
 
-        log.error("Failed: {}", ex.getMessage());
+        // Client errors are expected traffic (404s, conflicts); only server-side failures are worth a warning.
+        if (status.is5xxServerError()) {
+            log.warn("Failed with {}: {}", status.value(), ex.getMessage());
+        } else {
+            log.debug("Failed with {}: {}", status.value(), ex.getMessage());
+        }
         return ResponseEntity.status(status).body(errorResponse);
     }
 }
@@ -9,7 +9,8 @@ public class ProductValidationException extends RuntimeException {
     private final HttpStatus status;
 
     public ProductValidationException(String message, HttpStatus status) {
-        super(message);
+        // Routine outcomes (404, validation); the stack trace is never logged, so skip capturing it.
+        super(message, null, false, false);
         this.status = status;
     }
 }
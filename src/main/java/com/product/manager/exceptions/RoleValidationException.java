@@ -9,7 +9,7 @@ public class RoleValidationException extends RuntimeException{
     private final HttpStatus status;
 
     public RoleValidationException(String message, HttpStatus statusCode) {
-        super(message);
+        super(message, null, false, false);
         this.status = statusCode;
     }
 }
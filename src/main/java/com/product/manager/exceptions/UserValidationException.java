@@ -9,7 +9,7 @@ public class UserValidationException extends RuntimeException {
     private final HttpStatus status;
 
     public UserValidationException(String message, HttpStatus statusCode) {
-        super(message);
+        super(message, null, false, false);
         this.status = statusCode;
     }
 }
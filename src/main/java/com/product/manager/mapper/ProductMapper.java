@@ -12,7 +12,9 @@ public interface ProductMapper {
     ProductDto toDto(Product product);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Product toEntity(ProductDto productDto);
 
+    @Mapping(target = "version", ignore = true)
     void updateEntityFromDto(ProductDto productDto, @MappingTarget Product product);
 }
@@ -0,0 +1,9 @@
+package com.product.manager.repository;
+
+import com.product.manager.entity.DataSeed;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DataSeedRepository extends JpaRepository<DataSeed, String> {
+}
@@ -1,16 +1,79 @@
 package com.product.manager.repository;
 
 import com.product.manager.entity.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
     Optional<Product> findByCode(Long code);
 
     boolean existsByCode(Long code);
 
-    void deleteByCode(Long code);
+    // A derived deleteByCode would load the entity first; this is a single DELETE returning the row count.
+    @Modifying
+    @Query("delete from Product p where p.code = :code")
+    int deleteByCode(@Param("code") Long code);
+
+    List<Product> findByCodeGreaterThanOrderByCodeAsc(Long code, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Product p order by p.code")
+    Stream<Product> streamAllOrderedByCode();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.product.manager.repository.ProductStockRow(p.code, coalesce(p.price, 0.0), coalesce(p.quantity, 0L)) " +
+            "from Product p order by p.code")
+    Stream<ProductStockRow> streamStockRows();
+
+    @Query("select new com.product.manager.repository.ProductStockRow(p.code, coalesce(p.price, 0.0), coalesce(p.quantity, 0L)) " +
+            "from Product p where p.code in :codes")
+    List<ProductStockRow> findStockRowsByCodeIn(@Param("codes") Collection<Long> codes);
+
+    List<Product> findAllByCodeIn(Collection<Long> codes);
+
+    @Query("select p.code from Product p where p.code in :codes")
+    Set<Long> findExistingCodes(@Param("codes") Collection<Long> codes);
+
+    @Modifying
+    @Query("update Product p set p.productName = :productName, p.price = :price, p.quantity = :quantity, " +
+            "p.description = :description, p.version = p.version + 1 where p.code = :code")
+    int updateByCode(@Param("code") Long code,
+                     @Param("productName") String productName,
+                     @Param("price") Double price,
+                     @Param("quantity") Long quantity,
+                     @Param("description") String description);
+
+    @Modifying
+    @Query("update Product p set p.price = :price, p.version = p.version + 1 where p.code = :code")
+    int updatePriceByCode(@Param("code") Long code, @Param("price") Double price);
+
+    /**
+     * Adds {@code delta} (negative to take stock) in one conditional statement, so concurrent adjustments
+     * never overwrite each other and stock never goes below zero. Returns 0 when the product does not
+     * exist or has too little stock.
+     */
+    @Modifying
+    @Query("update Product p set p.quantity = p.quantity + :delta, p.version = p.version + 1 " +
+            "where p.code = :code and p.quantity + :delta >= 0")
+    int adjustQuantityByCode(@Param("code") Long code, @Param("delta") long delta);
 }
@@ -0,0 +1,22 @@
+package com.product.manager.repository;
+
+import com.product.manager.dto.UpdateProductDto;
+import com.product.manager.entity.Product;
+
+import java.util.List;
+
+public interface ProductRepositoryCustom {
+
+    /**
+     * Updates only the non-null fields of {@code changes} with a single UPDATE statement.
+     *
+     * @return the number of matched rows, {@code 0} when no product has the given code
+     */
+    int patchByCode(Long code, UpdateProductDto changes);
+
+    /**
+     * Full-text and range search ordered by {@code criteria.sort()} then {@code code}, continuing after the
+     * given keyset. Served by the GIN and {@code (column, code)} indexes in {@code db/migration/V2__product_indexes.sql}.
+     */
+    List<Product> search(ProductSearchCriteria criteria);
+}
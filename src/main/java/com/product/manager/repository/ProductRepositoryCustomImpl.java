@@ -0,0 +1,112 @@
+package com.product.manager.repository;
+
+import com.product.manager.dto.UpdateProductDto;
+import com.product.manager.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    // Must stay identical to the expression of product_search_idx, or Postgres will not use the index.
+    static final String SEARCH_VECTOR =
+            "to_tsvector('simple', coalesce(p.product_name, '') || ' ' || coalesce(p.description, ''))";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int patchByCode(Long code, UpdateProductDto changes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Product> update = cb.createCriteriaUpdate(Product.class);
+        Root<Product> product = update.from(Product.class);
+
+        boolean changed = false;
+        if (changes.productName() != null) {
+            update.set(product.<String>get("productName"), changes.productName());
+            changed = true;
+        }
+        if (changes.price() != null) {
+            update.set(product.<Double>get("price"), changes.price());
+            changed = true;
+        }
+        if (changes.quantity() != null) {
+            update.set(product.<Long>get("quantity"), changes.quantity());
+            changed = true;
+        }
+        if (changes.description() != null) {
+            update.set(product.<String>get("description"), changes.description());
+            changed = true;
+        }
+
+        if (!changed) {
+            return entityManager.createQuery("select count(p) from Product p where p.code = :code", Long.class)
+                    .setParameter("code", code)
+                    .getSingleResult()
+                    .intValue();
+        }
+
+        update.set(product.<Long>get("version"), cb.sum(product.<Long>get("version"), 1L));
+        update.where(cb.equal(product.get("code"), code));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Product> search(ProductSearchCriteria criteria) {
+        StringBuilder sql = new StringBuilder("select p.* from product p where 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (criteria.query() != null) {
+            sql.append(" and ").append(SEARCH_VECTOR).append(" @@ websearch_to_tsquery('simple', :query)");
+            parameters.put("query", criteria.query());
+        }
+        if (criteria.minPrice() != null) {
+            sql.append(" and p.price >= :minPrice");
+            parameters.put("minPrice", criteria.minPrice());
+        }
+        if (criteria.maxPrice() != null) {
+            sql.append(" and p.price <= :maxPrice");
+            parameters.put("maxPrice", criteria.maxPrice());
+        }
+        if (criteria.minQuantity() != null) {
+            sql.append(" and p.quantity >= :minQuantity");
+            parameters.put("minQuantity", criteria.minQuantity());
+        }
+        if (criteria.maxQuantity() != null) {
+            sql.append(" and p.quantity <= :maxQuantity");
+            parameters.put("maxQuantity", criteria.maxQuantity());
+        }
+
+        String column = "p." + criteria.sort().column();
+        String comparison = criteria.descending() ? " < " : " > ";
+        if (criteria.afterCode() != null) {
+            if (criteria.sort() == ProductSortField.CODE) {
+                sql.append(" and p.code").append(comparison).append(":afterCode");
+            } else {
+                sql.append(" and (").append(column).append(", p.code)").append(comparison).append("(:afterValue, :afterCode)");
+                parameters.put("afterValue", criteria.afterValue());
+            }
+            parameters.put("afterCode", criteria.afterCode());
+        }
+
+        String direction = criteria.descending() ? " desc" : " asc";
+        sql.append(" order by ").append(column).append(direction);
+        if (criteria.sort() != ProductSortField.CODE) {
+            sql.append(", p.code").append(direction);
+        }
+        sql.append(" limit :limit");
+        parameters.put("limit", criteria.limit());
+
+        Query query = entityManager.createNativeQuery(sql.toString(), Product.class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,17 @@
+package com.product.manager.repository;
+
+/**
+ * Parsed product search. Null filters are not applied; {@code afterCode} (and {@code afterValue} for non-code
+ * orderings) is the keyset of the last row already returned.
+ */
+public record ProductSearchCriteria(String query,
+                                    Double minPrice,
+                                    Double maxPrice,
+                                    Long minQuantity,
+                                    Long maxQuantity,
+                                    ProductSortField sort,
+                                    boolean descending,
+                                    Object afterValue,
+                                    Long afterCode,
+                                    int limit) {
+}
@@ -0,0 +1,32 @@
+package com.product.manager.repository;
+
+import com.product.manager.entity.Product;
+
+import java.util.function.Function;
+
+/**
+ * Columns the product search can be ordered by. Every non-code ordering is paired with {@code code} as a
+ * tie-breaker, so the keyset {@code (value, code)} is unique.
+ */
+public enum ProductSortField {
+
+    CODE("code", Product::getCode),
+    PRICE("price", Product::getPrice),
+    QUANTITY("quantity", Product::getQuantity);
+
+    private final String column;
+    private final Function<Product, Object> accessor;
+
+    ProductSortField(String column, Function<Product, Object> accessor) {
+        this.column = column;
+        this.accessor = accessor;
+    }
+
+    public String column() {
+        return column;
+    }
+
+    public Object valueOf(Product product) {
+        return accessor.apply(product);
+    }
+}
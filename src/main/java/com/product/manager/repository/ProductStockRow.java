@@ -0,0 +1,4 @@
+package com.product.manager.repository;
+
+public record ProductStockRow(Long code, Double price, Long quantity) {
+}
@@ -5,16 +5,17 @@ import com.product.manager.dto.LoginRequest;
 import com.product.manager.dto.RegisterRequest;
 import com.product.manager.entity.Role;
 import com.product.manager.entity.User;
-import com.product.manager.repository.RoleRepository;
+import com.product.manager.exceptions.RoleValidationException;
+import com.product.manager.exceptions.UserValidationException;
 import com.product.manager.repository.UserRepository;
 import com.product.manager.util.JwtUtil;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -27,18 +28,27 @@ public class AuthService {
 
     private final AuthenticationManager authManager;
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
+    private final TokenRevocationService tokenRevocationService;
 
     public GenericResponse<String> login(LoginRequest loginRequest) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(loginRequest.username());
-
-        Authentication authentication = authManager.authenticate(
-                new UsernamePasswordAuthenticationToken(loginRequest.username(), loginRequest.password())
-        );
+        Authentication authentication;
+        try {
+            authentication = authManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(loginRequest.username(), loginRequest.password())
+            );
+        } catch (InternalAuthenticationServiceException e) {
+            // The provider wraps lookup failures; surface our own "user not found" as before.
+            if (e.getCause() instanceof UserValidationException userValidationException) {
+                throw userValidationException;
+            }
+            throw e;
+        }
 
+        // The provider already loaded the user; reuse that principal instead of querying again.
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
         String jwtToken = jwtUtil.generateToken(userDetails);
         return new GenericResponse<>(HttpStatus.OK.value(), true, "Login successful", jwtToken);
     }
@@ -49,8 +59,8 @@ public class AuthService {
         }
 
         Set<Role> roles = registerRequest.roles().stream()
-                .map(roleName -> roleRepository.findByRoleName(roleName.toUpperCase())
-                        .orElseThrow(() -> new RuntimeException("Role not found: " + roleName)))
+                .map(roleName -> roleRegistry.findByRoleName(roleName.toUpperCase())
+                        .orElseThrow(() -> new RoleValidationException("Role not found: " + roleName, HttpStatus.BAD_REQUEST)))
                 .collect(Collectors.toSet());
 
 
@@ -62,4 +72,12 @@ public class AuthService {
 
         return new GenericResponse<>(HttpStatus.CREATED.value(), true, "User registered successfully", null);
     }
+
+    public GenericResponse<Void> revokeTokens(String username) {
+        if (!userRepository.existsByUsername(username)) {
+            throw new UserValidationException("User not found with username: " + username, HttpStatus.NOT_FOUND);
+        }
+        tokenRevocationService.revokeTokens(username);
+        return new GenericResponse<>(HttpStatus.OK.value(), true, "Tokens revoked successfully", null);
+    }
 }
@@ -0,0 +1,192 @@
+package com.product.manager.service;
+
+import com.product.manager.dto.GenericResponse;
+import com.product.manager.event.ProductChangedEvent;
+import com.product.manager.exceptions.ProductValidationException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind buffer for price changes, enabled with {@code product.price-write-behind.enabled=true}.
+ * <p>
+ * Changes are coalesced per code (last write wins) and written as one JDBC batch every
+ * {@code flush-interval-ms}, or as soon as {@code max-pending} codes are waiting. Each caller's future completes
+ * only after the batch holding its change has committed, so an acknowledged price is a persisted price. Pending
+ * changes are flushed on shutdown.
+ */
+@Service
+@ConditionalOnProperty(name = "product.price-write-behind.enabled", havingValue = "true")
+@Slf4j
+public class PriceWriteBehindBuffer implements MeterBinder {
+
+    static final String UPDATE_PRICE_SQL = "update product set price = ?, version = version + 1 where code = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxPending;
+
+    private final ConcurrentHashMap<Long, PendingPrice> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ReentrantReadWriteLock submitLock = new ReentrantReadWriteLock();
+    private final AtomicLong coalesced = new AtomicLong();
+    private volatile boolean closed;
+
+    public PriceWriteBehindBuffer(JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${product.price-write-behind.max-pending:1000}") int maxPending) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.maxPending = maxPending;
+    }
+
+    public CompletableFuture<GenericResponse<Void>> submit(Long code, Double price) {
+        ProductService.requireValidPrice(price);
+
+        CompletableFuture<Void> ack = new CompletableFuture<>();
+        // Checking closed and buffering under the read lock means close() cannot finish its last flush while a
+        // change is being added, so no accepted change is left behind with an incomplete future.
+        submitLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new ProductValidationException("Price updates are not accepted while shutting down.", HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            // The waiter list is only mutated inside compute() and only read after remove(), so it needs no locking.
+            pending.compute(code, (key, current) -> {
+                if (current == null) {
+                    return new PendingPrice(price, new ArrayList<>(List.of(ack)));
+                }
+                coalesced.incrementAndGet();
+                current.waiters().add(ack);
+                return new PendingPrice(price, current.waiters());
+            });
+        } finally {
+            submitLock.readLock().unlock();
+        }
+
+        if (pending.size() >= maxPending && flushLock.tryLock()) {
+            try {
+                flushPending();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+
+        return ack.thenApply(ignored -> new GenericResponse<>(HttpStatus.OK.value(), true, "Product price changed successfully", null));
+    }
+
+    @Scheduled(fixedDelayString = "${product.price-write-behind.flush-interval-ms:50}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        submitLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            submitLock.writeLock().unlock();
+        }
+        flushLock.lock();
+        try {
+            while (!pending.isEmpty()) {
+                flushPending();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+        log.info("Price write-behind buffer flushed on shutdown");
+    }
+
+    private void flushPending() {
+        List<Long> codes = new ArrayList<>();
+        List<PendingPrice> prices = new ArrayList<>();
+        for (Long code : pending.keySet()) {
+            PendingPrice price = pending.remove(code);
+            if (price != null) {
+                codes.add(code);
+                prices.add(price);
+            }
+        }
+        if (codes.isEmpty()) {
+            return;
+        }
+
+        int[] counts;
+        try {
+            counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(UPDATE_PRICE_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setDouble(1, prices.get(i).price());
+                    ps.setLong(2, codes.get(i));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return codes.size();
+                }
+            }));
+        } catch (RuntimeException e) {
+            log.error("Price write-behind flush of {} products failed: {}", codes.size(), e.getMessage());
+            ProductValidationException failure = new ProductValidationException("Price change could not be persisted.", HttpStatus.SERVICE_UNAVAILABLE);
+            prices.forEach(price -> price.waiters().forEach(waiter -> waiter.completeExceptionally(failure)));
+            return;
+        }
+
+        for (int i = 0; i < codes.size(); i++) {
+            Long code = codes.get(i);
+            if (counts[i] == 0) {
+                ProductValidationException notFound = new ProductValidationException("Product with code " + code + " not found.", HttpStatus.NOT_FOUND);
+                prices.get(i).waiters().forEach(waiter -> waiter.completeExceptionally(notFound));
+            } else {
+                eventPublisher.publishEvent(new ProductChangedEvent(code));
+                prices.get(i).waiters().forEach(waiter -> waiter.complete(null));
+            }
+        }
+        log.debug("Flushed {} buffered price changes", codes.size());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("product.price.write-behind.pending", pending, ConcurrentHashMap::size)
+                .description("Product codes with a buffered price change")
+                .register(registry);
+        FunctionCounter.builder("product.price.write-behind.coalesced", coalesced, AtomicLong::get)
+                .description("Price changes superseded by a later change before being flushed")
+                .register(registry);
+    }
+
+    private record PendingPrice(double price, List<CompletableFuture<Void>> waiters) {
+    }
+}
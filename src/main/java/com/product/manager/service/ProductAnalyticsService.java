@@ -0,0 +1,65 @@
+package com.product.manager.service;
+
+import com.product.manager.analytics.ProductColumnarSnapshot;
+import com.product.manager.dto.GenericResponse;
+import com.product.manager.dto.LowStockDto;
+import com.product.manager.dto.PriceHistogramDto;
+import com.product.manager.dto.StockValueDto;
+import com.product.manager.exceptions.ProductValidationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+/**
+ * Catalog aggregates served from {@link ProductColumnarSnapshot} instead of the database. Results can lag
+ * writes by up to one snapshot refresh interval.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductAnalyticsService {
+
+    static final int MAX_BUCKETS = 1000;
+
+    private final ProductColumnarSnapshot snapshot;
+
+    public GenericResponse<StockValueDto> getStockValue() {
+        requireLoaded();
+        return new GenericResponse<>(HttpStatus.OK.value(), true, "Stock value computed successfully",
+                new StockValueDto(snapshot.productCount(), snapshot.totalStockValue()));
+    }
+
+    public GenericResponse<LowStockDto> getLowStock(long threshold) {
+        if (threshold < 0) {
+            throw new ProductValidationException("Threshold must be a non-negative value.", HttpStatus.BAD_REQUEST);
+        }
+        requireLoaded();
+        return new GenericResponse<>(HttpStatus.OK.value(), true, "Low stock count computed successfully",
+                new LowStockDto(threshold, snapshot.lowStockCount(threshold)));
+    }
+
+    public GenericResponse<PriceHistogramDto> getPriceHistogram(int buckets, Double min, Double max) {
+        if (buckets <= 0 || buckets > MAX_BUCKETS) {
+            throw new ProductValidationException("Buckets must be between 1 and " + MAX_BUCKETS + ".", HttpStatus.BAD_REQUEST);
+        }
+        requireLoaded();
+
+        double lower = min == null ? snapshot.minPrice() : min;
+        double upper = max == null ? snapshot.maxPrice() : max;
+        if (lower > upper) {
+            throw new ProductValidationException("min cannot be greater than max.", HttpStatus.BAD_REQUEST);
+        }
+        // A single distinct price still needs a non-zero bucket width.
+        if (lower == upper) {
+            upper = lower + 1;
+        }
+
+        return new GenericResponse<>(HttpStatus.OK.value(), true, "Price histogram computed successfully",
+                new PriceHistogramDto(lower, upper, (upper - lower) / buckets, snapshot.priceHistogram(lower, upper, buckets)));
+    }
+
+    private void requireLoaded() {
+        if (!snapshot.isLoaded()) {
+            throw new ProductValidationException("Analytics snapshot is still loading.", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+}
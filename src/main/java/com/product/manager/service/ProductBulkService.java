@@ -0,0 +1,208 @@
+package com.product.manager.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.product.manager.dto.BulkItemResultDto;
+import com.product.manager.dto.GenericResponse;
+import com.product.manager.dto.ProductDto;
+import com.product.manager.entity.Product;
+import com.product.manager.event.ProductChangedEvent;
+import com.product.manager.exceptions.ProductValidationException;
+import com.product.manager.mapper.ProductMapper;
+import com.product.manager.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk add/upsert of products. Items are written in chunks of {@link #CHUNK_SIZE}, each in its own
+ * transaction: one set-based lookup of existing codes, then JDBC-batched inserts/updates. Upserted rows are
+ * version-checked, and a chunk that loses a race with a concurrent write is re-read and retried; if it keeps losing,
+ * its items are reported as {@code 409} and the remaining chunks still run.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductBulkService {
+
+    // Matches hibernate.jdbc.batch_size so each chunk flushes as a single batch per statement type.
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_CHUNK_ATTEMPTS = 3;
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    public GenericResponse<List<BulkItemResultDto>> addProducts(List<ProductDto> products, boolean upsert) {
+        List<BulkItemResultDto> results = new ArrayList<>(Collections.nCopies(products.size(), null));
+        return ingest(products, results, upsert);
+    }
+
+    /**
+     * Reads a JSON array one element at a time, so an invalid product is rejected in its own result slot instead of
+     * failing the whole request. Only malformed JSON syntax fails the request.
+     */
+    public GenericResponse<List<BulkItemResultDto>> addProductsJsonArray(InputStream json, boolean upsert) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(ProductDto.class);
+        List<ProductDto> products = new ArrayList<>();
+        List<BulkItemResultDto> results = new ArrayList<>();
+
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ProductValidationException("Request body must be a JSON array of products.", HttpStatus.BAD_REQUEST);
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonNode element = parser.readValueAsTree();
+                try {
+                    products.add(reader.readValue(element));
+                    results.add(null);
+                } catch (JsonProcessingException e) {
+                    products.add(null);
+                    results.add(new BulkItemResultDto(null, HttpStatus.BAD_REQUEST.value(), rejectionMessage(e)));
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new ProductValidationException("Malformed JSON: " + e.getOriginalMessage(), HttpStatus.BAD_REQUEST);
+        }
+        return ingest(products, results, upsert);
+    }
+
+    public GenericResponse<List<BulkItemResultDto>> addProductsNdjson(InputStream ndjson, boolean upsert) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(ProductDto.class);
+        List<ProductDto> products = new ArrayList<>();
+        List<BulkItemResultDto> results = new ArrayList<>();
+
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    products.add(reader.readValue(line));
+                    results.add(null);
+                } catch (JsonProcessingException e) {
+                    products.add(null);
+                    results.add(new BulkItemResultDto(null, HttpStatus.BAD_REQUEST.value(), rejectionMessage(e)));
+                }
+            }
+        }
+        return ingest(products, results, upsert);
+    }
+
+    private GenericResponse<List<BulkItemResultDto>> ingest(List<ProductDto> products,
+                                                            List<BulkItemResultDto> results,
+                                                            boolean upsert) {
+        Set<Long> seen = new HashSet<>();
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < products.size(); i++) {
+            ProductDto productDto = products.get(i);
+            if (productDto == null) {
+                continue;
+            }
+            if (seen.add(productDto.code())) {
+                pending.add(i);
+            } else {
+                results.set(i, new BulkItemResultDto(productDto.code(), HttpStatus.BAD_REQUEST.value(), "Duplicate code in request."));
+            }
+        }
+
+        for (int from = 0; from < pending.size(); from += CHUNK_SIZE) {
+            List<Integer> chunk = pending.subList(from, Math.min(from + CHUNK_SIZE, pending.size()));
+            writeChunkWithRetry(chunk, products, results, upsert);
+        }
+
+        long created = results.stream().filter(result -> result.status() == HttpStatus.CREATED.value()).count();
+        long updated = results.stream().filter(result -> result.status() == HttpStatus.OK.value()).count();
+        log.info("Bulk ingest of {} items finished, {} created, {} updated", products.size(), created, updated);
+        return new GenericResponse<>(HttpStatus.OK.value(), true, "Bulk ingest completed", results);
+    }
+
+    private void writeChunkWithRetry(List<Integer> chunk, List<ProductDto> products, List<BulkItemResultDto> results, boolean upsert) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> writeChunk(chunk, products, results, upsert));
+                return;
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                // A concurrent update (stale version) or insert (unique code) rolled the chunk back; the re-read
+                // on the next attempt classifies those codes correctly.
+                if (attempt == MAX_CHUNK_ATTEMPTS) {
+                    log.warn("Bulk chunk of {} items still conflicting after {} attempts", chunk.size(), attempt);
+                    for (int i : chunk) {
+                        results.set(i, new BulkItemResultDto(products.get(i).code(), HttpStatus.CONFLICT.value(),
+                                "Product was modified concurrently, please retry."));
+                    }
+                    return;
+                }
+                log.debug("Bulk chunk hit a concurrent write, retrying (attempt {})", attempt + 1);
+            }
+        }
+    }
+
+    private void writeChunk(List<Integer> chunk, List<ProductDto> products, List<BulkItemResultDto> results, boolean upsert) {
+        Set<Long> codes = chunk.stream()
+                .map(i -> products.get(i).code())
+                .collect(Collectors.toSet());
+
+        Map<Long, Product> existing = upsert
+                ? productRepository.findAllByCodeIn(codes).stream()
+                .collect(Collectors.toMap(Product::getCode, Function.identity()))
+                : Map.of();
+        Set<Long> existingCodes = upsert ? existing.keySet() : productRepository.findExistingCodes(codes);
+
+        List<Product> inserts = new ArrayList<>();
+        for (int i : chunk) {
+            ProductDto productDto = products.get(i);
+            if (!existingCodes.contains(productDto.code())) {
+                inserts.add(productMapper.toEntity(productDto));
+                results.set(i, new BulkItemResultDto(productDto.code(), HttpStatus.CREATED.value(), "Product added"));
+            } else if (upsert) {
+                productMapper.updateEntityFromDto(productDto, existing.get(productDto.code()));
+                results.set(i, new BulkItemResultDto(productDto.code(), HttpStatus.OK.value(), "Product updated"));
+            } else {
+                results.set(i, new BulkItemResultDto(productDto.code(), HttpStatus.CONFLICT.value(), "Product already exists"));
+                continue;
+            }
+            eventPublisher.publishEvent(new ProductChangedEvent(productDto.code()));
+        }
+
+        productRepository.saveAll(inserts);
+        // Flushing through the repository translates a stale version into OptimisticLockingFailureException.
+        productRepository.flush();
+        entityManager.clear();
+    }
+
+    private String rejectionMessage(JsonProcessingException e) {
+        if (e.getCause() instanceof ProductValidationException validationException) {
+            return validationException.getMessage();
+        }
+        return e.getOriginalMessage();
+    }
+}
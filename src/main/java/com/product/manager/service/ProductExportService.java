@@ -0,0 +1,64 @@
+package com.product.manager.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.product.manager.dto.ProductDto;
+import com.product.manager.entity.Product;
+import com.product.manager.mapper.ProductMapper;
+import com.product.manager.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the whole catalog as NDJSON (one {@link ProductDto} per line) straight from a database
+ * cursor, so the heap only ever holds one fetch-size window of rows.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductExportService {
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${product.export.flush-every:1000}")
+    private int flushEvery;
+
+    @Transactional(readOnly = true)
+    public void exportProducts(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(ProductDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long rows = 0;
+
+        try (Stream<Product> products = productRepository.streamAllOrderedByCode();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+
+            Iterator<Product> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                Product product = iterator.next();
+                writer.writeValue(generator, productMapper.toDto(product));
+                generator.writeRaw('\n');
+                entityManager.detach(product);
+
+                if (++rows % flushEvery == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        log.info("Exported {} products", rows);
+    }
+}
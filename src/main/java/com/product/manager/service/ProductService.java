@@ -1,14 +1,24 @@
 package com.product.manager.service;
 
+import com.product.manager.cache.ProductCache;
 import com.product.manager.dto.GenericResponse;
 import com.product.manager.dto.ProductDto;
+import com.product.manager.dto.ProductPageDto;
+import com.product.manager.dto.ProductSearchRequest;
+import com.product.manager.dto.ProductSearchResultDto;
 import com.product.manager.dto.UpdateProductDto;
+import com.product.manager.entity.Product;
+import com.product.manager.event.ProductChangedEvent;
 import com.product.manager.exceptions.ProductValidationException;
 import com.product.manager.mapper.ProductMapper;
 import com.product.manager.repository.ProductRepository;
+import com.product.manager.repository.ProductSearchCriteria;
+import com.product.manager.repository.ProductSortField;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -19,8 +29,13 @@ import java.util.List;
 @Slf4j
 public class ProductService {
 
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final ProductCache productCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public GenericResponse<Void> addProduct(ProductDto productDto) {
 
@@ -29,28 +44,40 @@ public class ProductService {
         }
         var product = productMapper.toEntity(productDto);
         productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getCode()));
         log.info("Product '{}' added with code '{}'", product.getProductName(), product.getCode());
 
         return new GenericResponse<>(HttpStatus.CREATED.value(), true,"Product added successfully", null);
     }
 
     public GenericResponse<ProductDto> getProductByCode(Long code) {
-        return productRepository.findByCode(code)
+        ProductDto productDto = productCache.get(code)
+                .orElseGet(() -> loadProduct(code));
+
+        return new GenericResponse<>(HttpStatus.OK.value(), true, "Product found", productDto);
+    }
+
+    private ProductDto loadProduct(Long code) {
+        long stamp = productCache.stamp();
+        ProductDto productDto = productRepository.findByCode(code)
                 .map(productMapper::toDto)
-                .map(productDto -> new GenericResponse<>(HttpStatus.OK.value(), true, "Product found", productDto))
                 .orElseThrow(() -> new ProductValidationException("Product with code " + code + " not found.", HttpStatus.NOT_FOUND));
 
+        productCache.putIfUnchanged(productDto, stamp);
+        return productDto;
     }
 
     @Transactional
     public GenericResponse<Void> changeProduct(ProductDto productDto) {
 
-        var product = productRepository.findByCode(productDto.code())
-                .orElseThrow(() -> new ProductValidationException("Product with code " + productDto.code() + " not found.", HttpStatus.NOT_FOUND));
-
+        int updated = productRepository.updateByCode(productDto.code(), productDto.productName(),
+                productDto.price(), productDto.quantity(), productDto.description());
+        if (updated == 0) {
+            throw new ProductValidationException("Product with code " + productDto.code() + " not found.", HttpStatus.NOT_FOUND);
+        }
 
-        productMapper.updateEntityFromDto(productDto, product);
-        log.info("Product '{}' changed with code '{}'", product.getProductName(), product.getCode());
+        eventPublisher.publishEvent(new ProductChangedEvent(productDto.code()));
+        log.info("Product '{}' changed with code '{}'", productDto.productName(), productDto.code());
 
         return new GenericResponse<>(HttpStatus.OK.value(), true, "Product changed successfully", null);
     }
@@ -58,62 +85,189 @@ public class ProductService {
     @Transactional
     public GenericResponse<Void> updateProduct(Long code, UpdateProductDto updateProductDto) {
 
-        var product = productRepository.findByCode(code)
-                .orElseThrow(() -> new ProductValidationException("Product with code " + code + " not found.", HttpStatus.NOT_FOUND));
-
-        if (updateProductDto.productName() != null && !updateProductDto.productName().isBlank()) {
-            product.setProductName(updateProductDto.productName());
-        }
-
-        if (updateProductDto.price() != null && updateProductDto.price() >= 0) {
-            product.setPrice(updateProductDto.price());
-        }
+        // Blank names/descriptions and negative numbers are ignored, as before; only the rest is written.
+        UpdateProductDto changes = new UpdateProductDto(
+                updateProductDto.productName() != null && !updateProductDto.productName().isBlank()
+                        ? updateProductDto.productName() : null,
+                updateProductDto.price() != null && updateProductDto.price() >= 0
+                        ? updateProductDto.price() : null,
+                updateProductDto.quantity() != null && updateProductDto.quantity() >= 0
+                        ? updateProductDto.quantity() : null,
+                updateProductDto.description() != null && !updateProductDto.description().isBlank()
+                        ? updateProductDto.description() : null
+        );
 
-        if (updateProductDto.quantity() != null && updateProductDto.quantity() >= 0) {
-            product.setQuantity(updateProductDto.quantity());
+        if (productRepository.patchByCode(code, changes) == 0) {
+            throw new ProductValidationException("Product with code " + code + " not found.", HttpStatus.NOT_FOUND);
         }
 
-        if (updateProductDto.description() != null && !updateProductDto.description().isBlank()) {
-            product.setDescription(updateProductDto.description());
-        }
+        eventPublisher.publishEvent(new ProductChangedEvent(code));
         log.info("Product with code '{}' updated successfully", code);
         return new GenericResponse<>(HttpStatus.OK.value(), true, "Product updated successfully", null);
     }
 
     @Transactional
     public GenericResponse<Void> removeProduct(Long code) {
-        if (!productRepository.existsByCode(code)) {
+        if (productRepository.deleteByCode(code) == 0) {
             throw new ProductValidationException("Product with code " + code + " does not exist.", HttpStatus.NOT_FOUND);
         }
 
-        productRepository.deleteByCode(code);
+        eventPublisher.publishEvent(new ProductChangedEvent(code));
         log.info("Product with code '{}' removed successfully", code);
 
         return new GenericResponse<>(HttpStatus.OK.value(), true, "Product removed successfully", null);
     }
 
+    @Transactional
+    public GenericResponse<Void> adjustStock(Long code, Long delta) {
+        if (delta == null || delta == 0) {
+            throw new ProductValidationException("Delta must be a non-zero value.", HttpStatus.BAD_REQUEST);
+        }
+
+        if (productRepository.adjustQuantityByCode(code, delta) == 0) {
+            if (!productRepository.existsByCode(code)) {
+                throw new ProductValidationException("Product with code " + code + " not found.", HttpStatus.NOT_FOUND);
+            }
+            throw new ProductValidationException("Insufficient stock for product with code " + code + ".", HttpStatus.CONFLICT);
+        }
+
+        eventPublisher.publishEvent(new ProductChangedEvent(code));
+        log.info("Product with code '{}' stock adjusted by '{}'", code, delta);
+
+        return new GenericResponse<>(HttpStatus.OK.value(), true, "Product stock adjusted successfully", null);
+    }
+
     public GenericResponse<List<ProductDto>> getAllProducts() {
         List<ProductDto> products = productRepository.findAll()
                 .stream()
                 .map(productMapper::toDto)
                 .toList();
 
-        log.info("Retrieved {} products from the database", products.size());
+        log.debug("Retrieved {} products from the database", products.size());
         return new GenericResponse<>(HttpStatus.OK.value(), true, "Products retrieved successfully", products);
     }
 
+    /**
+     * Keyset page over the catalog ordered by {@code code}. Only {@code limit + 1} rows are read,
+     * the extra row telling whether a next page exists.
+     */
+    public GenericResponse<ProductPageDto> getProductPage(Long after, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        long cursor = after == null ? 0L : after;
+
+        List<Product> rows = productRepository.findByCodeGreaterThanOrderByCodeAsc(cursor, Limit.of(pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<Product> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<ProductDto> products = page.stream()
+                .map(productMapper::toDto)
+                .toList();
+        Long nextCursor = hasMore ? page.getLast().getCode() : null;
+
+        log.debug("Retrieved {} products after code '{}'", products.size(), cursor);
+        return new GenericResponse<>(HttpStatus.OK.value(), true, "Products retrieved successfully",
+                new ProductPageDto(products, nextCursor));
+    }
+
+    public GenericResponse<ProductSearchResultDto> searchProducts(ProductSearchRequest request) {
+        int pageSize = resolvePageSize(request.limit());
+        ProductSortField sort = parseSortField(request.sort());
+        boolean descending = parseDescending(request.direction());
+
+        if (request.minPrice() != null && request.maxPrice() != null && request.minPrice() > request.maxPrice()) {
+            throw new ProductValidationException("min_price cannot be greater than max_price.", HttpStatus.BAD_REQUEST);
+        }
+        if (request.minQuantity() != null && request.maxQuantity() != null && request.minQuantity() > request.maxQuantity()) {
+            throw new ProductValidationException("min_quantity cannot be greater than max_quantity.", HttpStatus.BAD_REQUEST);
+        }
+
+        Object afterValue = null;
+        Long afterCode = null;
+        if (request.after() != null && !request.after().isBlank()) {
+            try {
+                if (sort == ProductSortField.CODE) {
+                    afterCode = Long.parseLong(request.after());
+                } else {
+                    int separator = request.after().lastIndexOf(':');
+                    String value = request.after().substring(0, separator);
+                    afterValue = sort == ProductSortField.PRICE ? Double.parseDouble(value) : Long.parseLong(value);
+                    afterCode = Long.parseLong(request.after().substring(separator + 1));
+                }
+            } catch (RuntimeException e) {
+                throw new ProductValidationException("Invalid search cursor: " + request.after(), HttpStatus.BAD_REQUEST);
+            }
+        }
+
+        String query = request.query() == null || request.query().isBlank() ? null : request.query();
+        List<Product> rows = productRepository.search(new ProductSearchCriteria(query,
+                request.minPrice(), request.maxPrice(), request.minQuantity(), request.maxQuantity(),
+                sort, descending, afterValue, afterCode, pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Product> page = hasMore ? rows.subList(0, pageSize) : rows;
+        List<ProductDto> products = page.stream()
+                .map(productMapper::toDto)
+                .toList();
+
+        String nextCursor = null;
+        if (hasMore) {
+            Product last = page.getLast();
+            nextCursor = sort == ProductSortField.CODE
+                    ? String.valueOf(last.getCode())
+                    : sort.valueOf(last) + ":" + last.getCode();
+        }
+
+        log.debug("Search returned {} products", products.size());
+        return new GenericResponse<>(HttpStatus.OK.value(), true, "Products retrieved successfully",
+                new ProductSearchResultDto(products, nextCursor));
+    }
+
+    private int resolvePageSize(Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new ProductValidationException("Limit must be between 1 and " + MAX_PAGE_SIZE + ".", HttpStatus.BAD_REQUEST);
+        }
+        return pageSize;
+    }
+
+    private ProductSortField parseSortField(String sort) {
+        if (sort == null) {
+            return ProductSortField.CODE;
+        }
+        try {
+            return ProductSortField.valueOf(sort.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ProductValidationException("Unsupported sort field: " + sort, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private boolean parseDescending(String direction) {
+        if (direction == null || direction.equalsIgnoreCase("asc")) {
+            return false;
+        }
+        if (direction.equalsIgnoreCase("desc")) {
+            return true;
+        }
+        throw new ProductValidationException("Direction must be 'asc' or 'desc'.", HttpStatus.BAD_REQUEST);
+    }
+
     @Transactional
     public GenericResponse<Void> changeProductPrice(Long code, Double price) {
-        if (price == null || price < 0) {
-            throw new ProductValidationException("Price must be a non-negative value.", HttpStatus.BAD_REQUEST);
-        }
+        requireValidPrice(price);
 
-        var product = productRepository.findByCode(code)
-                .orElseThrow(() -> new ProductValidationException("Product with code " + code + " not found.", HttpStatus.NOT_FOUND));
+        if (productRepository.updatePriceByCode(code, price) == 0) {
+            throw new ProductValidationException("Product with code " + code + " not found.", HttpStatus.NOT_FOUND);
+        }
 
-        product.setPrice(price);
+        eventPublisher.publishEvent(new ProductChangedEvent(code));
         log.info("Product with code '{}' price changed to '{}'", code, price);
 
         return new GenericResponse<>(HttpStatus.OK.value(), true, "Product price changed successfully", null);
     }
+
+    static void requireValidPrice(Double price) {
+        if (price == null || price < 0) {
+            throw new ProductValidationException("Price must be a non-negative value.", HttpStatus.BAD_REQUEST);
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package com.product.manager.service;
+
+import com.product.manager.entity.Role;
+import com.product.manager.repository.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of the {@code role} table. Roles are seeded by {@code DataInitializer} and rarely change,
+ * so lookups are served from memory and only unknown names fall through to the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoleRegistry {
+
+    private final RoleRepository roleRepository;
+    private final Map<String, Role> roles = new ConcurrentHashMap<>();
+
+    public void register(Role role) {
+        roles.put(role.getRoleName(), role);
+    }
+
+    public Optional<Role> findByRoleName(String roleName) {
+        Role role = roles.get(roleName);
+        if (role != null) {
+            return Optional.of(role);
+        }
+
+        Optional<Role> stored = roleRepository.findByRoleName(roleName);
+        stored.ifPresent(this::register);
+        return stored;
+    }
+}
@@ -0,0 +1,37 @@
+package com.product.manager.service;
+
+import com.product.manager.cache.UserDetailsCache;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory per-user token epoch. Revoking a user rejects every token issued before that moment, which
+ * lets the JWT filter trust role claims without reloading the user on each request.
+ * <p>
+ * {@code iat} only has second precision, so a token minted in the same second as the revocation is
+ * rejected as well.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService {
+
+    private final Map<String, Long> revokedBefore = new ConcurrentHashMap<>();
+    private final UserDetailsCache userDetailsCache;
+
+    public void revokeTokens(String username) {
+        revokedBefore.put(username, System.currentTimeMillis());
+        userDetailsCache.invalidate(username);
+        log.info("Tokens of user '{}' revoked", username);
+    }
+
+    public boolean isRevoked(Claims claims) {
+        Long epoch = revokedBefore.get(claims.getSubject());
+        return epoch != null && claims.getIssuedAt().getTime() / 1000 <= epoch / 1000;
+    }
+}
@@ -1,28 +1,52 @@
 package com.product.manager.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Component
-public class JwtUtil {
+public class JwtUtil implements MeterBinder {
 
-    @Value("${jwt.secret-key}")
-    private String secretKey;
+    private static final long EXPIRATION_TIME = 86400000; // 1 day in milliseconds
 
-    private final long EXPIRATION_TIME = 86400000; // 1 day in milliseconds
+    private final SecretKey key;
+    private final JwtParser parser;
 
-    public String generateToken(UserDetails userDetails) {
+    // Verified claims keyed by the raw token; each entry lives until the token itself expires.
+    private final Cache<String, Claims> verifiedTokens;
 
-        SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    public JwtUtil(@Value("${jwt.secret-key}") String secretKey,
+                   @Value("${jwt.token-cache.max-size:10000}") long tokenCacheSize) {
+        this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenCacheSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
 
+    public String generateToken(UserDetails userDetails) {
         return Jwts.builder()
                 .subject(userDetails.getUsername())
                 .claim("roles", userDetails.getAuthorities().stream()
@@ -34,27 +58,75 @@ public class JwtUtil {
                 .compact();
     }
 
-    public String extractUsername(String token) {
-        return parseClaims(token).getSubject();
+    /**
+     * Verifies the token signature and expiry, returning its claims. Tokens that were already verified
+     * are served from memory until they expire.
+     */
+    public Claims parseToken(String token) {
+        Claims claims = verifiedTokens.getIfPresent(token);
+        if (claims == null) {
+            claims = parser.parseSignedClaims(token).getPayload();
+            verifiedTokens.put(token, claims);
+        }
+        return claims;
     }
 
+    public String extractUsername(String token) {
+        return parseToken(token).getSubject();
+    }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        return isTokenValid(parseToken(token), userDetails);
+    }
+
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims);
+    }
+
+    /**
+     * Builds the principal straight from the verified {@code sub} and {@code roles} claims, without a
+     * database lookup.
+     */
+    public UserDetails toUserDetails(Claims claims) {
+        List<?> roles = claims.get("roles", List.class);
+        return new User(
+                claims.getSubject(),
+                "",
+                roles == null ? List.of() : roles.stream()
+                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                        .toList()
+        );
     }
 
     public boolean isTokenExpired(String token) {
-        Claims claims = parseClaims(token);
+        return isTokenExpired(parseToken(token));
+    }
+
+    public boolean isTokenExpired(Claims claims) {
         return claims.getExpiration().before(new Date());
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)))
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedTokens, "verified-tokens");
     }
 
+    private static final class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,30 @@
+-- Baseline schema, equivalent to what Hibernate generated with ddl-auto=create.
+
+CREATE SEQUENCE product_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE product (
+    id           BIGINT           NOT NULL PRIMARY KEY,
+    product_name VARCHAR(255),
+    price        DOUBLE PRECISION,
+    quantity     BIGINT,
+    description  VARCHAR(255),
+    code         BIGINT           NOT NULL,
+    version      BIGINT           NOT NULL DEFAULT 0
+);
+
+CREATE TABLE role (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    role_name VARCHAR(255) NOT NULL UNIQUE
+);
+
+CREATE TABLE app_user (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL REFERENCES app_user (id),
+    role_id BIGINT NOT NULL REFERENCES role (id),
+    PRIMARY KEY (user_id, role_id)
+);
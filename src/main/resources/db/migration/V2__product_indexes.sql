@@ -0,0 +1,12 @@
+-- Every API path looks products up by code. The unique index carries the columns that code-keyed reads need
+-- besides the full-row fetch (existsByCode, the analytics delta refresh, version checks), so those are
+-- answered by index-only scans.
+CREATE UNIQUE INDEX product_code_idx ON product (code) INCLUDE (id, price, quantity, version);
+
+-- Full-text index over name and description; the expression must match ProductRepositoryCustomImpl.SEARCH_VECTOR.
+CREATE INDEX product_search_idx
+    ON product USING GIN (to_tsvector('simple', coalesce(product_name, '') || ' ' || coalesce(description, '')));
+
+-- Range filters and keyset pagination on (sort column, code).
+CREATE INDEX product_price_code_idx ON product (price, code);
+CREATE INDEX product_quantity_code_idx ON product (quantity, code);
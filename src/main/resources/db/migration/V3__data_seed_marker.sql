@@ -0,0 +1,5 @@
+-- Seed steps already applied by DataInitializer; a present row lets startup skip the seeding queries.
+CREATE TABLE data_seed (
+    name       VARCHAR(64)              NOT NULL PRIMARY KEY,
+    applied_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,125 @@
+package com.product.manager.analytics;
+
+import com.product.manager.event.ProductChangedEvent;
+import com.product.manager.repository.ProductRepository;
+import com.product.manager.repository.ProductStockRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisabledInNativeImage
+public class ProductColumnarSnapshotTest {
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductColumnarSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new ProductColumnarSnapshot(productRepository, transactionManager);
+    }
+
+    @Test
+    void testLoad_ComputesAggregates() {
+        when(productRepository.streamStockRows()).thenReturn(Stream.of(
+                new ProductStockRow(1L, 10.0, 5L),
+                new ProductStockRow(2L, 20.0, 1L),
+                new ProductStockRow(3L, 30.0, 0L)));
+
+        snapshot.load();
+
+        assertEquals(3, snapshot.productCount());
+        assertEquals(70.0, snapshot.totalStockValue());
+        assertEquals(2, snapshot.lowStockCount(1));
+        assertArrayEquals(new long[]{1, 1, 1}, snapshot.priceHistogram(10.0, 30.0, 3));
+    }
+
+    @Test
+    void testRefresh_AppliesUpdatesInsertsAndDeletes() {
+        when(productRepository.streamStockRows()).thenReturn(Stream.of(
+                new ProductStockRow(1L, 10.0, 5L),
+                new ProductStockRow(2L, 20.0, 1L),
+                new ProductStockRow(3L, 30.0, 0L)));
+        snapshot.load();
+
+        snapshot.onProductChanged(new ProductChangedEvent(2L));
+        snapshot.onProductChanged(new ProductChangedEvent(3L));
+        snapshot.onProductChanged(new ProductChangedEvent(4L));
+        when(productRepository.findStockRowsByCodeIn(List.of(2L, 3L, 4L))).thenReturn(List.of(
+                new ProductStockRow(2L, 25.0, 2L),
+                new ProductStockRow(4L, 5.0, 10L)));
+
+        snapshot.refresh();
+
+        assertEquals(3, snapshot.productCount());
+        assertEquals(150.0, snapshot.totalStockValue());
+        assertEquals(5.0, snapshot.minPrice());
+        assertEquals(25.0, snapshot.maxPrice());
+    }
+
+    @Test
+    void testRefresh_RetriesCodesAfterFailedRead() {
+        when(productRepository.streamStockRows()).thenReturn(Stream.of(new ProductStockRow(1L, 10.0, 5L)));
+        snapshot.load();
+
+        snapshot.onProductChanged(new ProductChangedEvent(1L));
+        when(productRepository.findStockRowsByCodeIn(List.of(1L)))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(List.of(new ProductStockRow(1L, 12.0, 5L)));
+
+        assertThrows(QueryTimeoutException.class, () -> snapshot.refresh());
+        assertEquals(50.0, snapshot.totalStockValue());
+
+        snapshot.refresh();
+
+        assertEquals(60.0, snapshot.totalStockValue());
+    }
+
+    @Test
+    void testRefresh_ReadsDirtyCodesInChunks() {
+        when(productRepository.streamStockRows()).thenReturn(Stream.empty());
+        snapshot.load();
+
+        int changed = ProductColumnarSnapshot.REFRESH_CHUNK_SIZE * 2 + 1;
+        for (long code = 1; code <= changed; code++) {
+            snapshot.onProductChanged(new ProductChangedEvent(code));
+        }
+        when(productRepository.findStockRowsByCodeIn(any())).thenReturn(List.of());
+
+        snapshot.refresh();
+
+        verify(productRepository, times(3)).findStockRowsByCodeIn(any());
+    }
+
+    @Test
+    void testRefresh_SkipsUntilLoaded() {
+        snapshot.onProductChanged(new ProductChangedEvent(1L));
+
+        snapshot.refresh();
+
+        assertFalse(snapshot.isLoaded());
+        verify(productRepository, never()).findStockRowsByCodeIn(any());
+    }
+}
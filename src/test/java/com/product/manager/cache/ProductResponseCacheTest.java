@@ -0,0 +1,147 @@
+package com.product.manager.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.product.manager.dto.GenericResponse;
+import com.product.manager.dto.ProductDto;
+import com.product.manager.event.ProductChangedEvent;
+import com.product.manager.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisabledInNativeImage
+public class ProductResponseCacheTest {
+
+    @Mock
+    private ProductService productService;
+
+    private ObjectMapper cborMapper;
+    private ProductResponseCache productResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        cborMapper = new ObjectMapper(new CBORFactory()).setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        productResponseCache = newCache(DataSize.ofMegabytes(1), Duration.ofMinutes(5));
+    }
+
+    private ProductResponseCache newCache(DataSize maxCatalogSize, Duration ttl) {
+        ObjectMapper objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        return new ProductResponseCache(productService, objectMapper,
+                new MappingJackson2CborHttpMessageConverter(cborMapper), 100, maxCatalogSize, ttl);
+    }
+
+    @Test
+    void testGetProduct_SerializesOnceUntilInvalidated() {
+        ProductDto productDto = new ProductDto("Test", 10.0, 5L, "Desc", 1L);
+        when(productService.getProductByCode(1L))
+                .thenReturn(new GenericResponse<>(HttpStatus.OK.value(), true, "Product found", productDto));
+
+        var first = productResponseCache.getProduct(1L, ResponseFormat.JSON);
+        var second = productResponseCache.getProduct(1L, ResponseFormat.JSON);
+
+        assertSame(first, second);
+        assertTrue(new String(first.body(), StandardCharsets.UTF_8).contains("\"product_name\":\"Test\""));
+        assertTrue(first.etag().startsWith("\""));
+        verify(productService, times(1)).getProductByCode(1L);
+
+        productResponseCache.onProductChanged(new ProductChangedEvent(1L));
+        productResponseCache.getProduct(1L, ResponseFormat.JSON);
+
+        verify(productService, times(2)).getProductByCode(1L);
+    }
+
+    @Test
+    void testGetCatalog_ETagChangesWithContent() {
+        ProductDto before = new ProductDto("Test", 10.0, 5L, "Desc", 1L);
+        ProductDto after = new ProductDto("Test", 12.0, 5L, "Desc", 1L);
+        when(productService.getAllProducts())
+                .thenReturn(new GenericResponse<>(HttpStatus.OK.value(), true, "Products retrieved successfully", List.of(before)))
+                .thenReturn(new GenericResponse<>(HttpStatus.OK.value(), true, "Products retrieved successfully", List.of(after)));
+
+        var first = productResponseCache.getCatalog(ResponseFormat.JSON);
+        assertSame(first, productResponseCache.getCatalog(ResponseFormat.JSON));
+
+        productResponseCache.onProductChanged(new ProductChangedEvent(1L));
+        var second = productResponseCache.getCatalog(ResponseFormat.JSON);
+
+        assertNotEquals(first.etag(), second.etag());
+        assertSame(second, productResponseCache.getCatalog(ResponseFormat.JSON));
+        verify(productService, times(2)).getAllProducts();
+    }
+
+    @Test
+    void testGetProduct_CachesEachFormatWithItsOwnETag() throws Exception {
+        ProductDto productDto = new ProductDto("Test", 10.0, 5L, "Desc", 1L);
+        GenericResponse<ProductDto> found = new GenericResponse<>(HttpStatus.OK.value(), true, "Product found", productDto);
+        when(productService.getProductByCode(1L)).thenReturn(found);
+
+        var json = productResponseCache.getProduct(1L, ResponseFormat.JSON);
+        var cbor = productResponseCache.getProduct(1L, ResponseFormat.CBOR);
+
+        assertSame(cbor, productResponseCache.getProduct(1L, ResponseFormat.CBOR));
+        assertNotEquals(json.etag(), cbor.etag());
+        assertTrue(cbor.body().length < json.body().length);
+        assertEquals("Test", cborMapper.readTree(cbor.body()).path("data").path("product_name").asText());
+        verify(productService, times(2)).getProductByCode(1L);
+
+        productResponseCache.onProductChanged(new ProductChangedEvent(1L));
+        productResponseCache.getProduct(1L, ResponseFormat.CBOR);
+
+        verify(productService, times(3)).getProductByCode(1L);
+    }
+
+    @Test
+    void testExpiredEntries_AreRebuiltWithoutInvalidation() {
+        ProductDto productDto = new ProductDto("Test", 10.0, 5L, "Desc", 1L);
+        when(productService.getProductByCode(1L))
+                .thenReturn(new GenericResponse<>(HttpStatus.OK.value(), true, "Product found", productDto));
+        when(productService.getAllProducts())
+                .thenReturn(new GenericResponse<>(HttpStatus.OK.value(), true, "Products retrieved successfully", List.of(productDto)));
+        ProductResponseCache expiring = newCache(DataSize.ofMegabytes(1), Duration.ZERO);
+
+        expiring.getProduct(1L, ResponseFormat.JSON);
+        expiring.getProduct(1L, ResponseFormat.JSON);
+        expiring.getCatalog(ResponseFormat.JSON);
+        expiring.getCatalog(ResponseFormat.JSON);
+
+        verify(productService, times(2)).getProductByCode(1L);
+        verify(productService, times(2)).getAllProducts();
+    }
+
+    @Test
+    void testGetCatalog_OversizedBodyIsRebuiltUntilInvalidated() {
+        ProductDto productDto = new ProductDto("Test", 10.0, 5L, "Desc", 1L);
+        when(productService.getAllProducts())
+                .thenReturn(new GenericResponse<>(HttpStatus.OK.value(), true, "Products retrieved successfully", List.of(productDto)));
+        ProductResponseCache tiny = newCache(DataSize.ofBytes(1), Duration.ofMinutes(5));
+
+        var first = tiny.getCatalog(ResponseFormat.JSON);
+        var second = tiny.getCatalog(ResponseFormat.JSON);
+
+        assertNotSame(first, second);
+        assertEquals(first.etag(), second.etag());
+        verify(productService, times(2)).getAllProducts();
+    }
+}
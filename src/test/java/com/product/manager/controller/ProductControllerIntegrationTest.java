@@ -1,5 +1,8 @@
 package com.product.manager.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.product.manager.dto.GenericResponse;
 import com.product.manager.dto.ProductDto;
 import com.product.manager.mapper.ProductMapper;
@@ -59,6 +62,8 @@ public class ProductControllerIntegrationTest {
 
     @AfterEach
     void tearDown() {
+        // The schema now survives restarts (Flyway instead of ddl-auto=create), so each test cleans up its products.
+        productRepository.deleteAll();
     }
 
     private HttpHeaders getAuthHeaders(String username, String password) {
@@ -132,6 +137,66 @@ public class ProductControllerIntegrationTest {
         assertEquals(product, response.getBody().data());
     }
 
+    @Test
+    void shouldReturnNotModifiedWhenETagMatches() {
+        testProductCode = 1001L;
+
+        productRepository.save(productMapper.toEntity(new ProductDto("HDD 2TB", 89.99, 5L, "Reliable storage", testProductCode)));
+
+        String url = "http://localhost:" + port + "/api/v1/product/" + testProductCode;
+        ResponseEntity<String> first = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(userHeaders), String.class);
+        String etag = first.getHeaders().getETag();
+
+        HttpHeaders conditionalHeaders = new HttpHeaders();
+        conditionalHeaders.putAll(userHeaders);
+        conditionalHeaders.setIfNoneMatch(etag);
+        ResponseEntity<String> second = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(conditionalHeaders), String.class);
+
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertEquals(etag, second.getHeaders().getETag());
+    }
+
+    @Test
+    void shouldStreamExportAsNdjson() {
+        productRepository.save(productMapper.toEntity(new ProductDto("HDD 2TB", 89.99, 5L, "Reliable storage", 1001L)));
+        productRepository.save(productMapper.toEntity(new ProductDto("SSD 1TB", 129.99, 10L, "Fast storage", 1002L)));
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                "http://localhost:" + port + "/api/v1/product/export",
+                HttpMethod.GET,
+                new HttpEntity<>(userHeaders),
+                String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(MediaType.APPLICATION_NDJSON.isCompatibleWith(response.getHeaders().getContentType()));
+        List<String> lines = response.getBody().lines().toList();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"code\":1001"));
+        assertTrue(lines.get(1).contains("\"code\":1002"));
+    }
+
+    @Test
+    void shouldReturnCborWhenAccepted() throws Exception {
+        testProductCode = 1001L;
+
+        productRepository.save(productMapper.toEntity(new ProductDto("HDD 2TB", 89.99, 5L, "Reliable storage", testProductCode)));
+
+        HttpHeaders cborHeaders = new HttpHeaders();
+        cborHeaders.putAll(userHeaders);
+        cborHeaders.setAccept(List.of(MediaType.APPLICATION_CBOR));
+        ResponseEntity<byte[]> response = restTemplate.exchange(
+                "http://localhost:" + port + "/api/v1/product/" + testProductCode,
+                HttpMethod.GET,
+                new HttpEntity<>(cborHeaders),
+                byte[].class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(MediaType.APPLICATION_CBOR.isCompatibleWith(response.getHeaders().getContentType()));
+        JsonNode body = new ObjectMapper(new CBORFactory()).readTree(response.getBody());
+        assertEquals("HDD 2TB", body.path("data").path("product_name").asText());
+    }
+
     @Test
     void shouldChangeProductWithAdminRole() {
         testProductCode = 1001L;
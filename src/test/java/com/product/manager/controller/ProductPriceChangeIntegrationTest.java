@@ -0,0 +1,108 @@
+package com.product.manager.controller;
+
+import com.product.manager.dto.GenericResponse;
+import com.product.manager.dto.ProductDto;
+import com.product.manager.mapper.ProductMapper;
+import com.product.manager.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@code PUT /{code}/change/{price}} through the full security filter chain, on the in-memory H2 database of the
+ * {@code loadtest} profile, with the price write-behind buffer both off (synchronous) and on (async dispatch).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+@ActiveProfiles({"test", "loadtest"})
+public class ProductPriceChangeIntegrationTest {
+
+    private static final Long CODE = 2001L;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @LocalServerPort
+    private int port;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void shouldChangePriceSynchronously() {
+        assertPriceChanged();
+    }
+
+    @Nested
+    @TestPropertySource(properties = {
+            "product.price-write-behind.enabled=true",
+            "spring.datasource.url=jdbc:h2:mem:price-write-behind;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"
+    })
+    class WithWriteBehind {
+
+        @Test
+        void shouldChangePriceThroughAsyncDispatch() {
+            assertPriceChanged();
+        }
+    }
+
+    private void assertPriceChanged() {
+        productRepository.save(productMapper.toEntity(new ProductDto("SSD 1TB", 129.99, 10L, "Fast storage", CODE)));
+        HttpHeaders headers = adminHeaders();
+
+        // Twice: a leaked connection or a rejected async dispatch shows up on the repeat call.
+        for (double price : new double[]{139.99, 149.99}) {
+            ResponseEntity<GenericResponse<?>> response = restTemplate.exchange(
+                    "http://localhost:" + port + "/api/v1/product/" + CODE + "/change/" + price,
+                    HttpMethod.PUT,
+                    new HttpEntity<>(headers),
+                    new ParameterizedTypeReference<GenericResponse<?>>() {
+                    });
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertTrue(response.getBody().success());
+            assertEquals(price, productRepository.findByCode(CODE).orElseThrow().getPrice());
+        }
+    }
+
+    private HttpHeaders adminHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<GenericResponse<String>> login = restTemplate.exchange(
+                "http://localhost:" + port + "/api/v1/auth/login",
+                HttpMethod.POST,
+                new HttpEntity<>(Map.of("username", "admin", "password", "admin123"), headers),
+                new ParameterizedTypeReference<GenericResponse<String>>() {
+                });
+
+        HttpHeaders authHeaders = new HttpHeaders();
+        authHeaders.setBearerAuth(Objects.requireNonNull(login.getBody()).data());
+        return authHeaders;
+    }
+}
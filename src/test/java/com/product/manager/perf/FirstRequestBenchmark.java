@@ -0,0 +1,200 @@
+package com.product.manager.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.product.manager.ManagerApplication;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time from process start to the first successful {@code GET /api/v1/product/{code}}, including JVM startup,
+ * context refresh, seeding and the login that precedes the read.
+ * <p>
+ * The {@code classpath} variant runs the app from the current classpath, the way it was started before. If
+ * {@code --faststart-dir} holds the output of {@code ./mvnw -Pfaststart package}, the {@code faststart} variant
+ * runs the extracted jar with the CDS archive, AOT initialization and the {@code faststart} profile. Both use the
+ * database from {@code application.yml}, and the product read is created once before measuring.
+ * <p>
+ * Options: {@code --runs=5 --port=18080 --code=900001 --faststart-dir=target/faststart}.
+ */
+public class FirstRequestBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String SECRET_KEY = "first-request-benchmark-secret-key-0000";
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private final String baseUrl;
+    private final long code;
+
+    FirstRequestBenchmark(int port, long code) {
+        this.baseUrl = "http://localhost:" + port;
+        this.code = code;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        int port = Integer.parseInt(options.getOrDefault("port", "18080"));
+        long code = Long.parseLong(options.getOrDefault("code", "900001"));
+        Path faststartDir = Path.of(options.getOrDefault("faststart-dir", "target/faststart"));
+
+        List<String> common = List.of("--server.port=" + port, "--management.server.port=0", "--jwt.secret-key=" + SECRET_KEY);
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+
+        List<String> classpath = new ArrayList<>(List.of(java(), "-cp", System.getProperty("java.class.path"),
+                ManagerApplication.class.getName()));
+        classpath.addAll(common);
+        variants.put("classpath", classpath);
+
+        Path archive = faststartDir.resolve("application.jsa");
+        Path jar = findJar(faststartDir);
+        if (Files.exists(archive) && jar != null) {
+            List<String> faststart = new ArrayList<>(List.of(java(), "-XX:SharedArchiveFile=" + archive,
+                    "-Dspring.aot.enabled=true", "-jar", jar.toString(), "--spring.profiles.active=faststart"));
+            faststart.addAll(common);
+            variants.put("faststart", faststart);
+        } else {
+            System.out.println("No faststart build in " + faststartDir + ", measuring the classpath variant only");
+        }
+
+        FirstRequestBenchmark benchmark = new FirstRequestBenchmark(port, code);
+        benchmark.prepare(classpath);
+
+        System.out.printf("%-12s %10s %10s %10s%n", "variant", "min", "median", "max");
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            List<Double> seconds = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                seconds.add(benchmark.timeToFirstRead(variant.getValue()));
+            }
+            seconds.sort(Double::compare);
+            System.out.printf("%-12s %9.2fs %9.2fs %9.2fs%n", variant.getKey(),
+                    seconds.getFirst(), seconds.get(seconds.size() / 2), seconds.getLast());
+        }
+    }
+
+    /**
+     * Boots once to seed the database and make sure the product read during the measurements exists.
+     */
+    private void prepare(List<String> command) throws Exception {
+        Process process = start(command);
+        try {
+            String token = awaitLogin("admin", "admin123");
+            String body = MAPPER.writeValueAsString(Map.of("product_name", "First request probe", "price", 1.0,
+                    "quantity", 1, "description", "Read by FirstRequestBenchmark", "code", code));
+            send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/product/add"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build());
+        } finally {
+            stop(process);
+        }
+    }
+
+    private double timeToFirstRead(List<String> command) throws Exception {
+        long start = System.nanoTime();
+        Process process = start(command);
+        try {
+            String token = awaitLogin("user", "user123");
+            HttpRequest read = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/product/" + code))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build();
+            while (send(read) != 200) {
+                checkAlive(process, start);
+            }
+            return (System.nanoTime() - start) / 1e9;
+        } finally {
+            stop(process);
+        }
+    }
+
+    private String awaitLogin(String username, String password) throws Exception {
+        HttpRequest login = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        MAPPER.writeValueAsString(Map.of("username", username, "password", password))))
+                .build();
+        long start = System.nanoTime();
+        while (true) {
+            try {
+                HttpResponse<String> response = httpClient.send(login, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200) {
+                    return MAPPER.readTree(response.body()).get("data").asText();
+                }
+            } catch (IOException e) {
+                // Not listening yet.
+            }
+            if (System.nanoTime() - start > TIMEOUT.toNanos()) {
+                throw new IllegalStateException("Application did not accept a login within " + TIMEOUT);
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private int send(HttpRequest request) throws InterruptedException {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static void checkAlive(Process process, long start) throws InterruptedException {
+        if (!process.isAlive() || System.nanoTime() - start > TIMEOUT.toNanos()) {
+            throw new IllegalStateException("Product read did not succeed within " + TIMEOUT);
+        }
+        Thread.sleep(10);
+    }
+
+    private static Process start(List<String> command) throws IOException {
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static String java() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static Path findJar(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return null;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".jar")).findFirst().orElse(null);
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,333 @@
+package com.product.manager.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.product.manager.ManagerApplication;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP load generator for the product API.
+ * <p>
+ * Requests are started on a fixed schedule derived from the target rate, each on its own virtual thread,
+ * and latency is measured from the scheduled start, so a stalled server shows up as queueing delay instead
+ * of silently lowering the offered load. Without {@code --base-url} the application is started in-process
+ * with the {@code test,loadtest} profiles (in-memory H2), so the harness runs offline.
+ * <p>
+ * Options: {@code --rps=200 --duration=60s --warmup=10s --products=10000 --scenario=<file.jsonl>
+ * --base-url=http://host:port --virtual-threads=true|false}. With {@code --concurrency=N} the generator switches to a
+ * closed loop of N virtual users sending back to back, which measures the maximum sustainable throughput.
+ * The scenario is a JSONL file of weighted operations (see {@code loadtest/scenario.jsonl}); paths and bodies may
+ * use the {@code {code}}, {@code {newCode}} and {@code {price}} placeholders (quoted numbers in bodies are
+ * coerced by Jackson).
+ */
+public class LoadGenerator {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Map<String, String> tokens = new HashMap<>();
+    private final Map<String, Histogram> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final AtomicLong nextNewCode;
+    private final int products;
+
+    private volatile boolean recording;
+
+    LoadGenerator(String baseUrl, int products) {
+        this.baseUrl = baseUrl;
+        this.products = products;
+        this.nextNewCode = new AtomicLong(products + 1L);
+        this.httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int rps = Integer.parseInt(options.getOrDefault("rps", "200"));
+        Duration duration = parseDuration(options.getOrDefault("duration", "60s"));
+        Duration warmup = parseDuration(options.getOrDefault("warmup", "10s"));
+        int products = Integer.parseInt(options.getOrDefault("products", "10000"));
+        String concurrency = options.get("concurrency");
+        boolean virtualThreads = Boolean.parseBoolean(options.getOrDefault("virtual-threads", "false"));
+
+        ConfigurableApplicationContext app = null;
+        String baseUrl = options.get("base-url");
+        if (baseUrl == null) {
+            app = new SpringApplicationBuilder(ManagerApplication.class)
+                    .profiles("test", "loadtest")
+                    .properties("server.port=0", "management.server.port=0", "spring.threads.virtual.enabled=" + virtualThreads)
+                    .run();
+            baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+        }
+
+        try {
+            LoadGenerator generator = new LoadGenerator(baseUrl, products);
+            List<Operation> scenario = loadScenario(options.get("scenario"));
+
+            generator.login("admin", "admin", "admin123");
+            generator.login("user", "user", "user123");
+            generator.seedProducts();
+
+            if (concurrency != null) {
+                int users = Integer.parseInt(concurrency);
+                System.out.printf("Warming up for %ds with %d concurrent users%n", warmup.toSeconds(), users);
+                generator.runClosedLoop(scenario, users, warmup);
+
+                generator.recording = true;
+                System.out.printf("Measuring for %ds with %d concurrent users against %s (virtual threads: %s)%n",
+                        duration.toSeconds(), users, baseUrl, virtualThreads);
+                long started = System.nanoTime();
+                generator.runClosedLoop(scenario, users, duration);
+                generator.report(System.nanoTime() - started);
+            } else {
+                System.out.printf("Warming up for %ds at %d rps%n", warmup.toSeconds(), rps);
+                generator.run(scenario, rps, warmup);
+
+                generator.recording = true;
+                System.out.printf("Measuring for %ds at %d rps against %s (virtual threads: %s)%n",
+                        duration.toSeconds(), rps, baseUrl, virtualThreads);
+                long started = System.nanoTime();
+                generator.run(scenario, rps, duration);
+                generator.report(System.nanoTime() - started);
+            }
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+    }
+
+    private void login(String role, String username, String password) throws IOException, InterruptedException {
+        String body = MAPPER.writeValueAsString(Map.of("username", username, "password", password));
+        HttpResponse<String> response = httpClient.send(request("POST", "/api/v1/auth/login", null, body),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login of '" + username + "' failed with status " + response.statusCode());
+        }
+        tokens.put(role, MAPPER.readTree(response.body()).get("data").asText());
+    }
+
+    private void seedProducts() throws IOException, InterruptedException {
+        int batchSize = 5_000;
+        for (int from = 1; from <= products; from += batchSize) {
+            List<Map<String, Object>> batch = new ArrayList<>();
+            for (int code = from; code < Math.min(from + batchSize, products + 1); code++) {
+                batch.add(Map.of(
+                        "product_name", "Product " + code,
+                        "price", 10.0 + code % 100,
+                        "quantity", code % 50,
+                        "description", "Seeded by the load generator",
+                        "code", code));
+            }
+            HttpResponse<Void> response = httpClient.send(
+                    request("POST", "/api/v1/product/bulk?upsert=true", "admin", MAPPER.writeValueAsString(batch)),
+                    HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seeding products failed with status " + response.statusCode());
+            }
+        }
+    }
+
+    private void run(List<Operation> scenario, int rps, Duration duration) {
+        int totalWeight = scenario.stream().mapToInt(Operation::weight).sum();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long scheduled = start + i * intervalNanos;
+                if (scheduled >= end) {
+                    break;
+                }
+                long delay = scheduled - System.nanoTime();
+                if (delay > 0) {
+                    LockSupport.parkNanos(delay);
+                }
+                Operation operation = pick(scenario, totalWeight);
+                executor.submit(() -> execute(operation, scheduled));
+            }
+        }
+    }
+
+    private void runClosedLoop(List<Operation> scenario, int users, Duration duration) {
+        int totalWeight = scenario.stream().mapToInt(Operation::weight).sum();
+        long end = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < users; user++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                        execute(pick(scenario, totalWeight), System.nanoTime());
+                    }
+                });
+            }
+        }
+    }
+
+    private void execute(Operation operation, long scheduled) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, String> values = Map.of(
+                "{code}", String.valueOf(random.nextInt(1, products + 1)),
+                "{newCode}", String.valueOf(nextNewCode.getAndIncrement()),
+                "{price}", String.valueOf(random.nextInt(100, 100_000) / 100.0));
+
+        String outcome;
+        try {
+            HttpResponse<Void> response = httpClient.send(
+                    request(operation.method(), substitute(operation.path(), values), operation.role(),
+                            operation.body() == null ? null : substitute(operation.body(), values)),
+                    HttpResponse.BodyHandlers.discarding());
+            outcome = response.statusCode() < 400 ? null : "HTTP " + response.statusCode();
+        } catch (IOException e) {
+            outcome = e.getClass().getSimpleName();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (!recording) {
+            return;
+        }
+        long latency = System.nanoTime() - scheduled;
+        latencies.computeIfAbsent(operation.name(), name -> new ConcurrentHistogram(3)).recordValue(latency);
+        if (outcome != null) {
+            errors.computeIfAbsent(operation.name() + " -> " + outcome, key -> new LongAdder()).increment();
+        }
+    }
+
+    private HttpRequest request(String method, String path, String role, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body));
+        if (role != null) {
+            builder.header("Authorization", "Bearer " + tokens.get(role));
+        }
+        return builder.build();
+    }
+
+    private void report(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%n%-16s %10s %10s %10s %10s %10s %10s %10s%n",
+                "operation", "count", "rps", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        Histogram total = new Histogram(3);
+        new TreeMap<>(latencies).forEach((name, histogram) -> {
+            total.add(histogram);
+            printRow(name, histogram, seconds);
+        });
+        printRow("TOTAL", total, seconds);
+
+        long errorCount = errors.values().stream().mapToLong(LongAdder::sum).sum();
+        System.out.printf("%nErrors: %d (%.2f%%)%n", errorCount, total.getTotalCount() == 0 ? 0.0 : 100.0 * errorCount / total.getTotalCount());
+        new TreeMap<>(errors).forEach((key, count) -> System.out.printf("  %-40s %d%n", key, count.sum()));
+    }
+
+    private static void printRow(String name, Histogram histogram, double seconds) {
+        System.out.printf("%-16s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1e6,
+                histogram.getValueAtPercentile(90) / 1e6,
+                histogram.getValueAtPercentile(99) / 1e6,
+                histogram.getValueAtPercentile(99.9) / 1e6,
+                histogram.getMaxValue() / 1e6);
+    }
+
+    private static Operation pick(List<Operation> scenario, int totalWeight) {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : scenario) {
+            ticket -= operation.weight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        return scenario.getLast();
+    }
+
+    private static String substitute(String template, Map<String, String> values) {
+        String result = template;
+        for (Map.Entry<String, String> value : values.entrySet()) {
+            result = result.replace(value.getKey(), value.getValue());
+        }
+        return result;
+    }
+
+    private static List<Operation> loadScenario(String file) throws IOException {
+        List<String> lines;
+        if (file == null) {
+            try (InputStream in = LoadGenerator.class.getResourceAsStream("/loadtest/scenario.jsonl")) {
+                lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+            }
+        } else {
+            lines = Files.readAllLines(Path.of(file));
+        }
+
+        List<Operation> scenario = new ArrayList<>();
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode node = MAPPER.readTree(line);
+            scenario.add(new Operation(
+                    node.get("name").asText(),
+                    node.get("method").asText(),
+                    node.get("path").asText(),
+                    node.hasNonNull("role") ? node.get("role").asText() : null,
+                    node.hasNonNull("body") ? MAPPER.writeValueAsString(node.get("body")) : null,
+                    node.path("weight").asInt(1)));
+        }
+        return scenario;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+
+    private static Duration parseDuration(String value) {
+        return Duration.parse("PT" + value.toUpperCase());
+    }
+
+    record Operation(String name, String method, String path, String role, String body, int weight) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.product.manager.perf;
+
+import com.product.manager.ManagerApplication;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares application startup time with the schema rebuilt by Hibernate on every boot ({@code ddl-auto=create},
+ * the previous behaviour) against Flyway migrations with {@code ddl-auto=validate}.
+ * <p>
+ * Each boot is a fresh JVM on the current classpath, timed by Spring Boot's own
+ * {@code Started ... (process running for ...)} line. Both modes run against a Postgres database in separate
+ * throwaway schemas ({@code startup_bench_rebuild}, {@code startup_bench_migrate}), so existing data is never
+ * touched. The first boot of each mode is reported separately; for Flyway it is the one that actually migrates.
+ * <p>
+ * Options: {@code --runs=5 --url=jdbc:postgresql://localhost:5432/mydb --username=myuser --password=mypassword}.
+ */
+public class StartupBenchmark {
+
+    private static final Pattern STARTED = Pattern.compile(
+            "Started \\S+ in ([0-9.]+) seconds \\(process running for ([0-9.]+)\\)");
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        String url = options.getOrDefault("url", "jdbc:postgresql://localhost:5432/mydb");
+        String username = options.getOrDefault("username", "myuser");
+        String password = options.getOrDefault("password", "mypassword");
+
+        List<String> rebuild = List.of(
+                "--spring.datasource.url=" + url + "?currentSchema=startup_bench_rebuild",
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.properties.hibernate.default_schema=startup_bench_rebuild",
+                "--spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true");
+        List<String> migrate = List.of(
+                "--spring.datasource.url=" + url + "?currentSchema=startup_bench_migrate",
+                "--spring.flyway.schemas=startup_bench_migrate");
+
+        System.out.printf("%-28s %10s %10s %10s %10s%n", "mode", "first", "min", "median", "max");
+        report("ddl-auto=create", measure(rebuild, username, password, runs));
+        report("flyway + ddl-auto=validate", measure(migrate, username, password, runs));
+    }
+
+    private static List<Double> measure(List<String> modeArgs, String username, String password, int runs) throws Exception {
+        List<Double> seconds = new ArrayList<>();
+        // One extra boot: the first one per mode creates the schema.
+        for (int i = 0; i <= runs; i++) {
+            List<String> command = new ArrayList<>(List.of(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"),
+                    ManagerApplication.class.getName(),
+                    "--spring.profiles.active=test",
+                    "--server.port=0",
+                    "--management.server.port=0",
+                    "--spring.datasource.username=" + username,
+                    "--spring.datasource.password=" + password));
+            command.addAll(modeArgs);
+            seconds.add(boot(command));
+        }
+        return seconds;
+    }
+
+    private static double boot(List<String> command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = output.readLine()) != null) {
+                Matcher matcher = STARTED.matcher(line);
+                if (matcher.find()) {
+                    return Double.parseDouble(matcher.group(2));
+                }
+            }
+            throw new IllegalStateException("Application exited before startup completed (exit code "
+                    + process.waitFor() + ")");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static void report(String mode, List<Double> seconds) {
+        List<Double> warm = new ArrayList<>(seconds.subList(1, seconds.size()));
+        warm.sort(Double::compare);
+        System.out.printf("%-28s %9.2fs %9.2fs %9.2fs %9.2fs%n", mode, seconds.getFirst(),
+                warm.getFirst(), warm.get(warm.size() / 2), warm.getLast());
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,83 @@
+package com.product.manager.service;
+
+import com.product.manager.dto.LoginRequest;
+import com.product.manager.dto.RegisterRequest;
+import com.product.manager.entity.Role;
+import com.product.manager.exceptions.RoleValidationException;
+import com.product.manager.repository.UserRepository;
+import com.product.manager.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisabledInNativeImage
+public class AuthServiceTest {
+
+    @Mock
+    private AuthenticationManager authManager;
+    @Mock
+    private JwtUtil jwtUtil;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private RoleRegistry roleRegistry;
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @InjectMocks
+    private AuthService authService;
+
+    @Test
+    void testLogin_MintsTokenFromAuthenticatedPrincipal() {
+        UserDetails principal = User.withUsername("user").password("hash").roles("USER").build();
+        when(authManager.authenticate(any()))
+                .thenReturn(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        when(jwtUtil.generateToken(principal)).thenReturn("token");
+
+        var response = authService.login(new LoginRequest("user", "user123"));
+
+        assertEquals("token", response.data());
+    }
+
+    @Test
+    void testRegister_ResolvesRolesFromRegistry() {
+        when(userRepository.existsByUsername("new-user")).thenReturn(false);
+        when(roleRegistry.findByRoleName("USER")).thenReturn(Optional.of(new Role(1L, "USER")));
+        when(passwordEncoder.encode("secret")).thenReturn("hash");
+
+        var response = authService.register(new RegisterRequest("new-user", "secret", Set.of("user")));
+
+        assertEquals(HttpStatus.CREATED.value(), response.status());
+    }
+
+    @Test
+    void testRegister_UnknownRole() {
+        when(userRepository.existsByUsername("new-user")).thenReturn(false);
+        when(roleRegistry.findByRoleName("AUDITOR")).thenReturn(Optional.empty());
+
+        var exception = assertThrows(RoleValidationException.class,
+                () -> authService.register(new RegisterRequest("new-user", "secret", Set.of("auditor"))));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+    }
+}
@@ -0,0 +1,145 @@
+package com.product.manager.service;
+
+import com.product.manager.event.ProductChangedEvent;
+import com.product.manager.exceptions.ProductValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisabledInNativeImage
+public class PriceWriteBehindBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PriceWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new PriceWriteBehindBuffer(jdbcTemplate, transactionTemplate, eventPublisher, 1000);
+    }
+
+    private void executeTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void testFlush_CoalescesChangesPerCodeAndAcksAllCallers() throws Exception {
+        executeTransactionsInline();
+        ArgumentCaptor<BatchPreparedStatementSetter> setter = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        when(jdbcTemplate.batchUpdate(eq(PriceWriteBehindBuffer.UPDATE_PRICE_SQL), setter.capture())).thenReturn(new int[]{1});
+
+        CompletableFuture<?> first = buffer.submit(1L, 10.0);
+        CompletableFuture<?> second = buffer.submit(1L, 12.5);
+        assertFalse(first.isDone());
+
+        buffer.flush();
+
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        assertEquals(1, setter.getValue().getBatchSize());
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, 0);
+        verify(ps).setDouble(1, 12.5);
+        verify(ps).setLong(2, 1L);
+        verify(eventPublisher).publishEvent(new ProductChangedEvent(1L));
+    }
+
+    @Test
+    void testFlush_MissingProduct_FailsWithNotFound() {
+        executeTransactionsInline();
+        when(jdbcTemplate.batchUpdate(eq(PriceWriteBehindBuffer.UPDATE_PRICE_SQL), any(BatchPreparedStatementSetter.class)))
+                .thenReturn(new int[]{0});
+
+        CompletableFuture<?> ack = buffer.submit(999L, 10.0);
+        buffer.flush();
+
+        var ex = assertThrows(ExecutionException.class, ack::get);
+        assertInstanceOf(ProductValidationException.class, ex.getCause());
+        assertEquals(HttpStatus.NOT_FOUND, ((ProductValidationException) ex.getCause()).getStatus());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testSubmit_NegativePrice_ShouldThrow() {
+        var ex = assertThrows(ProductValidationException.class, () -> buffer.submit(1L, -1.0));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+    }
+
+    @Test
+    void testClose_FlushesPendingAndRejectsNewChanges() {
+        executeTransactionsInline();
+        when(jdbcTemplate.batchUpdate(eq(PriceWriteBehindBuffer.UPDATE_PRICE_SQL), any(BatchPreparedStatementSetter.class)))
+                .thenReturn(new int[]{1});
+        CompletableFuture<?> ack = buffer.submit(1L, 10.0);
+
+        buffer.close();
+
+        assertTrue(ack.isDone());
+        var ex = assertThrows(ProductValidationException.class, () -> buffer.submit(1L, 11.0));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatus());
+    }
+
+    @Test
+    void testClose_ConcurrentSubmitsAreEitherFlushedOrRejected() throws Exception {
+        executeTransactionsInline();
+        when(jdbcTemplate.batchUpdate(eq(PriceWriteBehindBuffer.UPDATE_PRICE_SQL), any(BatchPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> new int[invocation.<BatchPreparedStatementSetter>getArgument(1).getBatchSize()]);
+        List<CompletableFuture<?>> accepted = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        accepted.add(buffer.submit(0L, 10.0));
+
+        Thread submitter = new Thread(() -> {
+            started.countDown();
+            for (long code = 1; ; code++) {
+                try {
+                    accepted.add(buffer.submit(code, 10.0));
+                } catch (ProductValidationException e) {
+                    return;
+                }
+            }
+        });
+        submitter.start();
+        started.await();
+        buffer.close();
+        submitter.join();
+
+        assertTrue(accepted.stream().allMatch(CompletableFuture::isDone));
+    }
+}
@@ -0,0 +1,169 @@
+package com.product.manager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.product.manager.dto.BulkItemResultDto;
+import com.product.manager.dto.ProductDto;
+import com.product.manager.entity.Product;
+import com.product.manager.mapper.ProductMapper;
+import com.product.manager.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisabledInNativeImage
+public class ProductBulkServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private ProductMapper productMapper;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ProductBulkService productBulkService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        productBulkService = new ProductBulkService(productRepository, productMapper, entityManager,
+                transactionTemplate, eventPublisher, objectMapper);
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void testAddProducts_ReportsCreatedConflictAndDuplicate() {
+        ProductDto dto1 = new ProductDto("Test", 10.0, 5L, "Desc", 1L);
+        ProductDto dto2 = new ProductDto("Test", 10.0, 5L, "Desc", 2L);
+        ProductDto duplicate = new ProductDto("Other", 11.0, 1L, "Desc", 1L);
+        Product entity1 = new Product();
+        when(productRepository.findExistingCodes(Set.of(1L, 2L))).thenReturn(Set.of(2L));
+        when(productMapper.toEntity(dto1)).thenReturn(entity1);
+
+        var response = productBulkService.addProducts(List.of(dto1, dto2, duplicate), false);
+
+        List<BulkItemResultDto> results = response.data();
+        assertEquals(HttpStatus.CREATED.value(), results.get(0).status());
+        assertEquals(HttpStatus.CONFLICT.value(), results.get(1).status());
+        assertEquals(HttpStatus.BAD_REQUEST.value(), results.get(2).status());
+        verify(productRepository).saveAll(List.of(entity1));
+    }
+
+    @Test
+    void testAddProductsNdjson_UpsertsAndRejectsInvalidLines() throws Exception {
+        String body = """
+                {"product_name":"Test","price":10.0,"quantity":5,"description":"Desc","code":1}
+                {"product_name":"","price":10.0,"quantity":5,"description":"Desc","code":2}
+                """;
+        Product existing = new Product(1L, "Old", 1.0, 1L, "Old", 1L, 0L);
+        when(productRepository.findAllByCodeIn(Set.of(1L))).thenReturn(List.of(existing));
+
+        var response = productBulkService.addProductsNdjson(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), true);
+
+        List<BulkItemResultDto> results = response.data();
+        assertEquals(HttpStatus.OK.value(), results.get(0).status());
+        assertEquals(HttpStatus.BAD_REQUEST.value(), results.get(1).status());
+        assertNull(results.get(1).code());
+        verify(productMapper).updateEntityFromDto(new ProductDto("Test", 10.0, 5L, "Desc", 1L), existing);
+    }
+
+    @Test
+    void testAddProductsJsonArray_RejectsInvalidElementsPerItem() throws Exception {
+        String body = """
+                [{"product_name":"Test","price":10.0,"quantity":5,"description":"Desc","code":1},
+                 {"product_name":"Test","price":-1.0,"quantity":5,"description":"Desc","code":2}]
+                """;
+        Product entity = new Product();
+        when(productRepository.findExistingCodes(Set.of(1L))).thenReturn(Set.of());
+        when(productMapper.toEntity(new ProductDto("Test", 10.0, 5L, "Desc", 1L))).thenReturn(entity);
+
+        var response = productBulkService.addProductsJsonArray(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), false);
+
+        List<BulkItemResultDto> results = response.data();
+        assertEquals(HttpStatus.CREATED.value(), results.get(0).status());
+        assertEquals(HttpStatus.BAD_REQUEST.value(), results.get(1).status());
+        verify(productRepository).saveAll(List.of(entity));
+    }
+
+    @Test
+    void testAddProducts_RetriesChunkOnOptimisticLockFailure() {
+        ProductDto dto = new ProductDto("Test", 10.0, 5L, "Desc", 1L);
+        Product existing = new Product(1L, "Old", 1.0, 1L, "Old", 1L, 0L);
+        when(productRepository.findAllByCodeIn(Set.of(1L))).thenReturn(List.of(existing));
+        doThrow(new ObjectOptimisticLockingFailureException(Product.class, 1L))
+                .doNothing()
+                .when(productRepository).flush();
+
+        var response = productBulkService.addProducts(List.of(dto), true);
+
+        assertEquals(HttpStatus.OK.value(), response.data().get(0).status());
+        verify(productRepository, times(2)).findAllByCodeIn(Set.of(1L));
+    }
+
+    @Test
+    void testAddProducts_RetriesChunkWhenConcurrentInsertHitsUniqueCode() {
+        ProductDto dto = new ProductDto("Test", 10.0, 5L, "Desc", 1L);
+        when(productRepository.findExistingCodes(Set.of(1L)))
+                .thenReturn(Set.of())
+                .thenReturn(Set.of(1L));
+        when(productMapper.toEntity(dto)).thenReturn(new Product());
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+                .doNothing()
+                .when(productRepository).flush();
+
+        var response = productBulkService.addProducts(List.of(dto), false);
+
+        assertEquals(HttpStatus.CONFLICT.value(), response.data().get(0).status());
+        assertEquals("Product already exists", response.data().get(0).message());
+    }
+
+    @Test
+    void testAddProducts_ReportsConflictWhenRetriesAreExhausted() {
+        ProductDto dto = new ProductDto("Test", 10.0, 5L, "Desc", 1L);
+        Product existing = new Product(1L, "Old", 1.0, 1L, "Old", 1L, 0L);
+        when(productRepository.findAllByCodeIn(Set.of(1L))).thenReturn(List.of(existing));
+        doThrow(new ObjectOptimisticLockingFailureException(Product.class, 1L))
+                .when(productRepository).flush();
+
+        var response = productBulkService.addProducts(List.of(dto), true);
+
+        assertEquals(HttpStatus.CONFLICT.value(), response.data().get(0).status());
+        verify(productRepository, times(ProductBulkService.MAX_CHUNK_ATTEMPTS)).findAllByCodeIn(Set.of(1L));
+    }
+}
@@ -1,35 +1,51 @@
 package com.product.manager.service;
 
+import com.product.manager.cache.ProductCache;
 import com.product.manager.dto.ProductDto;
+import com.product.manager.dto.ProductSearchRequest;
 import com.product.manager.dto.UpdateProductDto;
 import com.product.manager.entity.Product;
+import com.product.manager.event.ProductChangedEvent;
 import com.product.manager.exceptions.ProductValidationException;
 import com.product.manager.mapper.ProductMapper;
 import com.product.manager.repository.ProductRepository;
+import com.product.manager.repository.ProductSearchCriteria;
+import com.product.manager.repository.ProductSortField;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
+@DisabledInNativeImage
 public class ProductServiceTest {
 
     @Mock
     private ProductRepository productRepository;
     @Mock
     private ProductMapper productMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Spy
+    private ProductCache productCache = new ProductCache(100, Duration.ofMinutes(1));
 
     @InjectMocks
     private ProductService productService;
@@ -83,42 +99,49 @@ public class ProductServiceTest {
     }
 
     @Test
-    void testChangeProduct_Success() {
+    void testGetProductByCode_SecondCallServedFromCache() {
+        Product product = new Product();
         ProductDto dto = new ProductDto("Test", 10.0, 5L, "Test desc", 1L);
+        when(productRepository.findByCode(1L)).thenReturn(Optional.of(product));
+        when(productMapper.toDto(product)).thenReturn(dto);
 
-        Product product = new Product();
-        product.setCode(1L);
-        product.setProductName("Old Name");
-        product.setPrice(5.0);
-        product.setQuantity(2L);
-        product.setDescription("Old Desc");
+        productService.getProductByCode(1L);
+        var response = productService.getProductByCode(1L);
 
+        assertEquals(dto, response.data());
+        verify(productRepository, times(1)).findByCode(1L);
+        assertEquals(1, productCache.stats().hitCount());
+    }
+
+    @Test
+    void testGetProductByCode_ReloadedAfterChangeEvent() {
+        Product product = new Product();
+        ProductDto dto = new ProductDto("Test", 10.0, 5L, "Test desc", 1L);
         when(productRepository.findByCode(1L)).thenReturn(Optional.of(product));
-        doAnswer(invocation -> {
-            ProductDto src = invocation.getArgument(0);
-            Product target = invocation.getArgument(1);
-            target.setProductName(src.productName());
-            target.setPrice(src.price());
-            target.setQuantity(src.quantity());
-            target.setDescription(src.description());
-            return null;
-        }).when(productMapper).updateEntityFromDto(dto, product);
+        when(productMapper.toDto(product)).thenReturn(dto);
 
+        productService.getProductByCode(1L);
+        productCache.onProductChanged(new ProductChangedEvent(1L));
+        productService.getProductByCode(1L);
+
+        verify(productRepository, times(2)).findByCode(1L);
+    }
+
+    @Test
+    void testChangeProduct_Success() {
+        ProductDto dto = new ProductDto("Test", 10.0, 5L, "Test desc", 1L);
+        when(productRepository.updateByCode(1L, "Test", 10.0, 5L, "Test desc")).thenReturn(1);
 
         var response = productService.changeProduct(dto);
 
-        verify(productMapper).updateEntityFromDto(dto, product);
+        verify(eventPublisher).publishEvent(new ProductChangedEvent(1L));
         assertEquals(HttpStatus.OK.value(), response.status());
-        assertEquals(dto.productName(), product.getProductName());
-        assertEquals(dto.price(), product.getPrice());
-        assertEquals(dto.quantity(), product.getQuantity());
-        assertEquals(dto.description(), product.getDescription());
     }
 
     @Test
     void testChangeProduct_NotFound() {
         ProductDto dto = new ProductDto("Test", 10.0, 5L, "Test desc",1L);
-        when(productRepository.findByCode(1L)).thenReturn(Optional.empty());
+        when(productRepository.updateByCode(1L, "Test", 10.0, 5L, "Test desc")).thenReturn(0);
 
         var exception = assertThrows(ProductValidationException.class,
                 () -> productService.changeProduct(dto));
@@ -130,22 +153,28 @@ public class ProductServiceTest {
     @Test
     void testUpdateProduct_Success() {
         UpdateProductDto update = new UpdateProductDto(null, 99.9, 20L, null);
-        Product product = new Product();
-        product.setCode(1L);
-        product.setPrice(50.0);
-        product.setQuantity(10L);
-        when(productRepository.findByCode(1L)).thenReturn(Optional.of(product));
+        when(productRepository.patchByCode(1L, update)).thenReturn(1);
+        var response = productService.updateProduct(1L, update);
+
+        verify(productRepository).patchByCode(1L, update);
+        assertEquals(HttpStatus.OK.value(), response.status());
+    }
+
+    @Test
+    void testUpdateProduct_IgnoresBlankAndNegativeFields() {
+        UpdateProductDto update = new UpdateProductDto(" ", -1.0, 20L, "New desc");
+        UpdateProductDto expectedChanges = new UpdateProductDto(null, null, 20L, "New desc");
+        when(productRepository.patchByCode(1L, expectedChanges)).thenReturn(1);
+
         var response = productService.updateProduct(1L, update);
 
-        assertEquals(update.price(), product.getPrice());
-        assertEquals(update.quantity(), product.getQuantity());
         assertEquals(HttpStatus.OK.value(), response.status());
     }
 
     @Test
     void testUpdateProduct_NotFound() {
         UpdateProductDto update = new UpdateProductDto(null, 99.9, 20L, null);
-        when(productRepository.findByCode(1L)).thenReturn(Optional.empty());
+        when(productRepository.patchByCode(1L, update)).thenReturn(0);
 
         assertThrows(ProductValidationException.class,
                 () -> productService.updateProduct(1L, update));
@@ -153,7 +182,7 @@ public class ProductServiceTest {
 
     @Test
     void testRemoveProduct_Success() {
-        when(productRepository.existsByCode(1L)).thenReturn(true);
+        when(productRepository.deleteByCode(1L)).thenReturn(1);
 
         var response = productService.removeProduct(1L);
 
@@ -163,7 +192,7 @@ public class ProductServiceTest {
 
     @Test
     void testRemoveProduct_NotFound() {
-        when(productRepository.existsByCode(1L)).thenReturn(false);
+        when(productRepository.deleteByCode(1L)).thenReturn(0);
 
         var exception = assertThrows(ProductValidationException.class,
                 () -> productService.removeProduct(1L));
@@ -175,18 +204,15 @@ public class ProductServiceTest {
     void testChangeProductPrice_Success() {
         Long code = 1L;
         Double newPrice = 99.99;
-        Product product = new Product();
-        product.setCode(code);
-        product.setPrice(50.0);
 
-        when(productRepository.findByCode(code)).thenReturn(Optional.of(product));
+        when(productRepository.updatePriceByCode(code, newPrice)).thenReturn(1);
 
         var response = productService.changeProductPrice(code, newPrice);
 
         assertEquals(HttpStatus.OK.value(), response.status());
         assertTrue(response.success());
         assertEquals("Product price changed successfully", response.message());
-        assertEquals(newPrice, product.getPrice());
+        verify(productRepository).updatePriceByCode(code, newPrice);
     }
 
     @Test
@@ -219,7 +245,7 @@ public class ProductServiceTest {
         Long code = 999L;
         Double price = 10.0;
 
-        when(productRepository.findByCode(code)).thenReturn(Optional.empty());
+        when(productRepository.updatePriceByCode(code, price)).thenReturn(0);
 
         var ex = assertThrows(ProductValidationException.class, () ->
                 productService.changeProductPrice(code, price)
@@ -229,11 +255,47 @@ public class ProductServiceTest {
         assertTrue(ex.getMessage().contains("not found"));
     }
 
+    @Test
+    void testAdjustStock_Success() {
+        when(productRepository.adjustQuantityByCode(1L, -3L)).thenReturn(1);
+
+        var response = productService.adjustStock(1L, -3L);
+
+        assertEquals(HttpStatus.OK.value(), response.status());
+        assertEquals("Product stock adjusted successfully", response.message());
+        verify(eventPublisher).publishEvent(new ProductChangedEvent(1L));
+    }
+
+    @Test
+    void testAdjustStock_InsufficientStock_ShouldThrow() {
+        when(productRepository.adjustQuantityByCode(1L, -10L)).thenReturn(0);
+        when(productRepository.existsByCode(1L)).thenReturn(true);
+
+        var ex = assertThrows(ProductValidationException.class, () ->
+                productService.adjustStock(1L, -10L)
+        );
+
+        assertEquals(HttpStatus.CONFLICT, ex.getStatus());
+        assertTrue(ex.getMessage().contains("Insufficient stock"));
+    }
+
+    @Test
+    void testAdjustStock_ProductNotFound_ShouldThrow() {
+        when(productRepository.adjustQuantityByCode(999L, 5L)).thenReturn(0);
+        when(productRepository.existsByCode(999L)).thenReturn(false);
+
+        var ex = assertThrows(ProductValidationException.class, () ->
+                productService.adjustStock(999L, 5L)
+        );
+
+        assertEquals(HttpStatus.NOT_FOUND, ex.getStatus());
+    }
+
     @Test
     void testGetAllProducts_Success() {
-        Product product1 = new Product(1L, "Test", 10.0, 5L, "Desc", 1L);
-        Product product2 = new Product(2L, "Test", 10.0, 5L, "Desc", 2L);
-        Product product3 = new Product(3L, "Test", 10.0, 5L, "Desc", 3L);
+        Product product1 = new Product(1L, "Test", 10.0, 5L, "Desc", 1L, 0L);
+        Product product2 = new Product(2L, "Test", 10.0, 5L, "Desc", 2L, 0L);
+        Product product3 = new Product(3L, "Test", 10.0, 5L, "Desc", 3L, 0L);
         ProductDto productDto1 = new ProductDto("Test", 10.0, 5L, "Desc", 1L);
         ProductDto productDto2 = new ProductDto("Test", 10.0, 5L, "Desc", 2L);
         ProductDto productDto3 = new ProductDto("Test", 10.0, 5L, "Desc", 3L);
@@ -247,4 +309,69 @@ public class ProductServiceTest {
         assertEquals(3, response.data().size());
         assertEquals(productDto1, response.data().getFirst());
     }
+
+    @Test
+    void testGetProductPage_ReturnsNextCursorWhenMoreRows() {
+        Product product1 = new Product(1L, "Test", 10.0, 5L, "Desc", 1L, 0L);
+        Product product2 = new Product(2L, "Test", 10.0, 5L, "Desc", 2L, 0L);
+        Product product3 = new Product(3L, "Test", 10.0, 5L, "Desc", 3L, 0L);
+        ProductDto productDto1 = new ProductDto("Test", 10.0, 5L, "Desc", 1L);
+        ProductDto productDto2 = new ProductDto("Test", 10.0, 5L, "Desc", 2L);
+        when(productMapper.toDto(product1)).thenReturn(productDto1);
+        when(productMapper.toDto(product2)).thenReturn(productDto2);
+        when(productRepository.findByCodeGreaterThanOrderByCodeAsc(0L, Limit.of(3)))
+                .thenReturn(List.of(product1, product2, product3));
+
+        var response = productService.getProductPage(null, 2);
+
+        assertEquals(List.of(productDto1, productDto2), response.data().products());
+        assertEquals(2L, response.data().nextCursor());
+    }
+
+    @Test
+    void testGetProductPage_LastPageHasNoCursor() {
+        Product product3 = new Product(3L, "Test", 10.0, 5L, "Desc", 3L, 0L);
+        ProductDto productDto3 = new ProductDto("Test", 10.0, 5L, "Desc", 3L);
+        when(productMapper.toDto(product3)).thenReturn(productDto3);
+        when(productRepository.findByCodeGreaterThanOrderByCodeAsc(2L, Limit.of(3)))
+                .thenReturn(List.of(product3));
+
+        var response = productService.getProductPage(2L, 2);
+
+        assertEquals(1, response.data().products().size());
+        assertNull(response.data().nextCursor());
+    }
+
+    @Test
+    void testGetProductPage_InvalidLimit_ShouldThrow() {
+        var ex = assertThrows(ProductValidationException.class,
+                () -> productService.getProductPage(null, 0));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+    }
+
+    @Test
+    void testSearchProducts_PriceSortReturnsCompositeCursor() {
+        Product product1 = new Product(1L, "SSD", 10.0, 5L, "Desc", 7L, 0L);
+        Product product2 = new Product(2L, "SSD", 12.5, 5L, "Desc", 3L, 0L);
+        ProductDto productDto1 = new ProductDto("SSD", 10.0, 5L, "Desc", 7L);
+        ProductSearchCriteria expected = new ProductSearchCriteria("ssd", 5.0, null, null, null,
+                ProductSortField.PRICE, false, 9.5, 2L, 2);
+        when(productRepository.search(expected)).thenReturn(List.of(product1, product2));
+        when(productMapper.toDto(product1)).thenReturn(productDto1);
+
+        var response = productService.searchProducts(
+                new ProductSearchRequest("ssd", 5.0, null, null, null, "price", "asc", "9.5:2", 1));
+
+        assertEquals(List.of(productDto1), response.data().products());
+        assertEquals("10.0:7", response.data().nextCursor());
+    }
+
+    @Test
+    void testSearchProducts_InvalidSort_ShouldThrow() {
+        var ex = assertThrows(ProductValidationException.class, () -> productService.searchProducts(
+                new ProductSearchRequest(null, null, null, null, null, "name", null, null, null)));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatus());
+    }
 }